@@ -0,0 +1,91 @@
+package ru.practicum.shareit.benchmark;
+
+import lombok.Getter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class BenchmarkDataset implements AutoCloseable {
+
+    private static final int OWNERS = 10;
+    private static final int BOOKERS = 10;
+
+    private final ConfigurableApplicationContext context;
+    private final List<Integer> ownerIds = new ArrayList<>();
+    private final List<Integer> bookerIds = new ArrayList<>();
+    private final List<Integer> itemIds = new ArrayList<>();
+
+    public BenchmarkDataset(int itemCount, int bookingsPerItem) {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:shareit-benchmark-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=benchmark",
+                        "--spring.datasource.password=benchmark",
+                        "--shareit.owner-cache.enabled=false",
+                        "--shareit.search.refresh-interval=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.orm.jpa=WARN",
+                        "--logging.level.org.springframework.transaction=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+
+        seed(itemCount, bookingsPerItem);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private void seed(int itemCount, int bookingsPerItem) {
+        UserService userService = getBean(UserService.class);
+        ItemService itemService = getBean(ItemService.class);
+        BookingService bookingService = getBean(BookingService.class);
+
+        for (int i = 0; i < OWNERS; i++) {
+            ownerIds.add(userService.postUser(new UserDto(0, "Owner " + i, "owner" + i + "@mail.com")).getId());
+        }
+        for (int i = 0; i < BOOKERS; i++) {
+            bookerIds.add(userService.postUser(new UserDto(0, "Booker " + i, "booker" + i + "@mail.com")).getId());
+        }
+
+        LocalDateTime firstStart = LocalDateTime.now().minusDays(bookingsPerItem);
+        for (int i = 0; i < itemCount; i++) {
+            int ownerId = ownerIds.get(i % OWNERS);
+            ItemDto item = itemService.postItem(ownerId, new ItemDto(0, "Дрель " + i, "Аккумуляторная дрель номер " + i, Boolean.TRUE, ownerId, null, null));
+            itemIds.add(item.getId());
+
+            for (int j = 0; j < bookingsPerItem; j++) {
+                int bookerId = bookerIds.get((i + j) % BOOKERS);
+                LocalDateTime start = firstStart.plusDays(2L * j);
+                BookingDto booking = bookingService.postBooking(bookerId, new BookingDto(0, item.getId(), start, start.plusDays(1), null, null, BookingStatus.WAITING));
+                if (j % 2 == 0) {
+                    bookingService.patchBooking(booking.getId(), Boolean.TRUE, ownerId);
+                }
+            }
+
+            if (bookingsPerItem > 0) {
+                itemService.postComment(bookerIds.get(i % BOOKERS), item.getId(), new CommentDto(0, "Отличная дрель " + i, null, null));
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.model.ShortBooking;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int size;
+
+    ObjectMapper objectMapper;
+    List<ItemDtoWithBooking> items;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        items = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            List<CommentDto> comments = List.of(new CommentDto(i, "Отличная дрель " + i, "Booker", now.minusDays(i)));
+            items.add(new ItemDtoWithBooking(i, "Дрель " + i, "Аккумуляторная дрель номер " + i, Boolean.TRUE, 1,
+                    new ShortBooking(i, 2), new ShortBooking(i + 1, 2), comments));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeItemDtoWithBookingList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(items);
+    }
+}
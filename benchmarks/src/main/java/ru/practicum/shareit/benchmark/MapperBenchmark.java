@@ -0,0 +1,85 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ShortBooking;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int size;
+
+    List<Item> items;
+    List<Booking> bookings;
+    List<Comment> comments;
+    ShortBooking lastBooking;
+    ShortBooking nextBooking;
+    List<CommentDto> commentDtos;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = new User(1, "Owner", "owner@mail.com");
+        User booker = new User(2, "Booker", "booker@mail.com");
+
+        items = new ArrayList<>();
+        bookings = new ArrayList<>();
+        comments = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            Item item = new Item(i, "Дрель " + i, "Аккумуляторная дрель номер " + i, Boolean.TRUE, owner);
+            items.add(item);
+            bookings.add(new Booking(i, now.plusDays(i), now.plusDays(i + 1), item, booker, BookingStatus.APPROVED));
+            comments.add(new Comment(i, "Отличная дрель " + i, item, booker, now.minusDays(i)));
+        }
+
+        lastBooking = new ShortBooking(1, booker.getId());
+        nextBooking = new ShortBooking(2, booker.getId());
+        commentDtos = List.of(CommentMapper.createCommentDto(comments.get(0)));
+    }
+
+    @Benchmark
+    public void createItemDtoWithBooking(Blackhole blackhole) {
+        for (Item item : items) {
+            blackhole.consume(ItemMapper.createItemDtoWithBooking(item, lastBooking, nextBooking, commentDtos));
+        }
+    }
+
+    @Benchmark
+    public void createBookingDto(Blackhole blackhole) {
+        for (Booking booking : bookings) {
+            blackhole.consume(BookingMapper.createBookingDto(booking));
+        }
+    }
+
+    @Benchmark
+    public void createCommentDto(Blackhole blackhole) {
+        for (Comment comment : comments) {
+            blackhole.consume(CommentMapper.createCommentDto(comment));
+        }
+    }
+
+    @Benchmark
+    public Object createCommentDtosByItemId() {
+        return CommentMapper.createCommentDtosByItemId(comments);
+    }
+}
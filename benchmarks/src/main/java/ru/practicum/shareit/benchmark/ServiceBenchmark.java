@@ -0,0 +1,72 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100", "1000"})
+    int itemCount;
+
+    @Param({"6"})
+    int bookingsPerItem;
+
+    BenchmarkDataset dataset;
+    ItemService itemService;
+    BookingService bookingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = new BenchmarkDataset(itemCount, bookingsPerItem);
+        itemService = dataset.getBean(ItemService.class);
+        bookingService = dataset.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataset.close();
+    }
+
+    @Benchmark
+    public Object getItemById() {
+        int itemId = dataset.getItemIds().get(ThreadLocalRandom.current().nextInt(dataset.getItemIds().size()));
+        return itemService.getItemById(dataset.getOwnerIds().get(0), itemId);
+    }
+
+    @Benchmark
+    public Object getAllItems() {
+        return itemService.getAllItems(dataset.getOwnerIds().get(0), 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object getSearchedItems() {
+        return itemService.getSearchedItems("дрель", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object getItemsThatIBooked() {
+        return bookingService.getItemsThatIBooked("ALL", dataset.getBookerIds().get(0), 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object getItemsThatIBookedByCursor() {
+        return bookingService.getItemsThatIBookedByCursor("ALL", dataset.getBookerIds().get(0), null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object getBookingsOfMyItems() {
+        return bookingService.getBookingsOfMyItems("ALL", dataset.getOwnerIds().get(0), 0, PAGE_SIZE);
+    }
+}
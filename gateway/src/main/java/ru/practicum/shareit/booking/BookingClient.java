@@ -3,42 +3,55 @@ package ru.practicum.shareit.booking;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerCallGuard;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
+@Profile("!reactive")
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
     private static final String APPROVED = "approved";
     private static final String STATE = "state";
     private static final String FROM = "from";
     private static final String SIZE = "size";
+    private static final String CURSOR = "cursor";
+    private static final String ITEMS_PREFIX = "/items/";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder, ClientHttpRequestFactory requestFactory, ResponseCache responseCache, ServerCallGuard serverCallGuard) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                responseCache,
+                serverCallGuard
         );
     }
 
     public ResponseEntity<Object> postBooking(int ownerId, BookingRequestDto bookingRequestDto) {
-        return post("", ownerId, bookingRequestDto);
+        ResponseEntity<Object> response = post("", ownerId, bookingRequestDto);
+        responseCache.evict(ITEMS_PREFIX + bookingRequestDto.getItemId());
+        return response;
     }
 
     public ResponseEntity<Object> patchBooking(int bookingId, Boolean approved, int ownerId) {
         Map<String, Object> parameters = Map.of(
                 APPROVED, approved
         );
-        return patch("/" + bookingId + "?approved={approved}", ownerId, parameters);
+        ResponseEntity<Object> response = patch("/" + bookingId + "?approved={approved}", ownerId, parameters);
+        responseCache.evictAll(ITEMS_PREFIX);
+        return response;
     }
 
     public ResponseEntity<Object> getBookingById(int userId, Integer bookingId) {
@@ -62,4 +75,26 @@ public class BookingClient extends BaseClient {
         );
         return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
     }
+
+    public ResponseEntity<Object> getItemsThatIBookedByCursor(int userId, String state, String cursor, Integer size) {
+        return get("/seek" + createCursorQuery(cursor), userId, createCursorParameters(state, cursor, size));
+    }
+
+    public ResponseEntity<Object> getBookingsOfMyItemsByCursor(int userId, String state, String cursor, Integer size) {
+        return get("/owner/seek" + createCursorQuery(cursor), userId, createCursorParameters(state, cursor, size));
+    }
+
+    private String createCursorQuery(String cursor) {
+        return cursor == null ? "?state={state}&size={size}" : "?state={state}&cursor={cursor}&size={size}";
+    }
+
+    private Map<String, Object> createCursorParameters(String state, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(STATE, state);
+        parameters.put(SIZE, size);
+        if (cursor != null) {
+            parameters.put(CURSOR, cursor);
+        }
+        return parameters;
+    }
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -10,6 +11,7 @@ import org.springframework.web.server.ResponseStatusException;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 
 @RestController
@@ -17,6 +19,7 @@ import javax.validation.constraints.Min;
 @RequiredArgsConstructor
 @Slf4j
 @Validated
+@Profile("!reactive")
 public class BookingController {
 
     private final BookingClient bookingClient;
@@ -66,4 +69,22 @@ public class BookingController {
         return bookingClient.getBookingsOfMyItems(ownerId, state, from, size);
     }
 
+    @GetMapping("/seek")
+    public ResponseEntity<Object> getItemsThatIBookedByCursor(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                              @RequestParam(defaultValue = "ALL") String state,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        log.info("getItemsThatIBookedByCursor booking with state {}, userId={}, cursor={}, size={}", state, ownerId, cursor, size);
+        return bookingClient.getItemsThatIBookedByCursor(ownerId, state, cursor, size);
+    }
+
+    @GetMapping("/owner/seek")
+    public ResponseEntity<Object> getBookingsOfMyItemsByCursor(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                               @RequestParam(defaultValue = "ALL") String state,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        log.info("getBookingsOfMyItemsByCursor booking with state {}, userId={}, cursor={}, size={}", state, ownerId, cursor, size);
+        return bookingClient.getBookingsOfMyItemsByCursor(ownerId, state, cursor, size);
+    }
+
 }
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+public class ReactiveBookingClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/bookings";
+    private static final String APPROVED = "approved";
+    private static final String STATE = "state";
+    private static final String FROM = "from";
+    private static final String SIZE = "size";
+    private static final String CURSOR = "cursor";
+
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<byte[]>> postBooking(int ownerId, BookingRequestDto bookingRequestDto) {
+        return post("", ownerId, bookingRequestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> patchBooking(int bookingId, Boolean approved, int ownerId) {
+        Map<String, Object> parameters = Map.of(
+                APPROVED, approved
+        );
+        return patch("/" + bookingId + "?approved={approved}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBookingById(int userId, Integer bookingId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemsThatIBooked(int userId, String state, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                STATE, state,
+                FROM, from,
+                SIZE, size
+        );
+        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBookingsOfMyItems(int userId, String state, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                STATE, state,
+                FROM, from,
+                SIZE, size
+        );
+        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemsThatIBookedByCursor(int userId, String state, String cursor, Integer size) {
+        return get("/seek" + createCursorQuery(cursor), userId, createCursorParameters(state, cursor, size));
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBookingsOfMyItemsByCursor(int userId, String state, String cursor, Integer size) {
+        return get("/owner/seek" + createCursorQuery(cursor), userId, createCursorParameters(state, cursor, size));
+    }
+
+    private String createCursorQuery(String cursor) {
+        return cursor == null ? "?state={state}&size={size}" : "?state={state}&cursor={cursor}&size={size}";
+    }
+
+    private Map<String, Object> createCursorParameters(String state, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(STATE, state);
+        parameters.put(SIZE, size);
+        if (cursor != null) {
+            parameters.put(CURSOR, cursor);
+        }
+        return parameters;
+    }
+}
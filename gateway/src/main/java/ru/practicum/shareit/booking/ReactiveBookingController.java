@@ -0,0 +1,91 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+@RestController
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Profile("reactive")
+public class ReactiveBookingController {
+
+    private final ReactiveBookingClient bookingClient;
+
+    private static final String OWNER_HEADER = "X-Sharer-User-Id";
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> postBooking(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                    @Valid @RequestBody BookingRequestDto bookingRequestDto) {
+        log.info("Creating booking {}, userId={}", bookingRequestDto, ownerId);
+        if (bookingRequestDto.getStart().isAfter(bookingRequestDto.getEnd()) || bookingRequestDto.getStart().equals(bookingRequestDto.getEnd())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error with booking time");
+        }
+        return bookingClient.postBooking(ownerId, bookingRequestDto);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> patchBooking(@PathVariable int bookingId,
+                                                     @RequestParam Boolean approved,
+                                                     @RequestHeader(OWNER_HEADER) int ownerId) {
+        log.info("Patch booking {}, userId={}", bookingId, ownerId);
+        return bookingClient.patchBooking(bookingId, approved, ownerId);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> getBookingById(@PathVariable int bookingId,
+                                                       @RequestHeader(OWNER_HEADER) int ownerId) {
+        log.info("Get booking {}, userId={}", bookingId, ownerId);
+        return bookingClient.getBookingById(ownerId, bookingId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getItemsThatIBooked(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                            @RequestParam(defaultValue = "ALL") String state,
+                                                            @RequestParam(defaultValue = "0") @Min(0) int from,
+                                                            @RequestParam(defaultValue = "10") @Min(1) int size) {
+        log.info("getItemsThatIBooked booking with state {}, userId={}, from={}, size={}", state, ownerId, from, size);
+        return bookingClient.getItemsThatIBooked(ownerId, state, from, size);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<byte[]>> getBookingsOfMyItems(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                             @RequestParam(defaultValue = "ALL") String state,
+                                                             @RequestParam(defaultValue = "0") @Min(0) int from,
+                                                             @RequestParam(defaultValue = "10") @Min(1) int size) {
+        log.info("getBookingsOfMyItems booking with state {}, userId={}, from={}, size={}", state, ownerId, from, size);
+        return bookingClient.getBookingsOfMyItems(ownerId, state, from, size);
+    }
+
+    @GetMapping("/seek")
+    public Mono<ResponseEntity<byte[]>> getItemsThatIBookedByCursor(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                                    @RequestParam(defaultValue = "ALL") String state,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        log.info("getItemsThatIBookedByCursor booking with state {}, userId={}, cursor={}, size={}", state, ownerId, cursor, size);
+        return bookingClient.getItemsThatIBookedByCursor(ownerId, state, cursor, size);
+    }
+
+    @GetMapping("/owner/seek")
+    public Mono<ResponseEntity<byte[]>> getBookingsOfMyItemsByCursor(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                                     @RequestParam(defaultValue = "ALL") String state,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        log.info("getBookingsOfMyItemsByCursor booking with state {}, userId={}, cursor={}, size={}", state, ownerId, cursor, size);
+        return bookingClient.getBookingsOfMyItemsByCursor(ownerId, state, cursor, size);
+    }
+
+}
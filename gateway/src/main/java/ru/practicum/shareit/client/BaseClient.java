@@ -5,14 +5,20 @@ import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
 public class BaseClient {
     protected final RestTemplate rest;
+    protected final ResponseCache responseCache;
+    private final ServerCallGuard serverCallGuard;
+    private final RequestCoalescer<ResponseEntity<Object>> requestCoalescer = new RequestCoalescer<>();
 
-    public BaseClient(RestTemplate rest) {
+    public BaseClient(RestTemplate rest, ResponseCache responseCache, ServerCallGuard serverCallGuard) {
         this.rest = rest;
+        this.responseCache = responseCache;
+        this.serverCallGuard = serverCallGuard;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -28,7 +34,17 @@ public class BaseClient {
     }
 
     protected ResponseEntity<Object> get(String path, Integer userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+        String key = ResponseCache.createKey(expand(path, parameters), userId);
+        return requestCoalescer.execute(key, () -> makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null, MediaType.APPLICATION_JSON));
+    }
+
+    protected ResponseEntity<Object> getCached(String path, int userId) {
+        return getCached(path, userId, null);
+    }
+
+    protected ResponseEntity<Object> getCached(String path, Integer userId, @Nullable Map<String, Object> parameters) {
+        String key = ResponseCache.createKey(expand(path, parameters), userId);
+        return responseCache.get(key, () -> requestCoalescer.execute(key, () -> makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null, MediaType.APPLICATION_JSON)));
     }
 
     protected <T> ResponseEntity<Object> post(String path, T body) {
@@ -40,7 +56,11 @@ public class BaseClient {
     }
 
     protected <T> ResponseEntity<Object> post(String path, Integer userId, @Nullable Map<String, Object> parameters, T body) {
-        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
+        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body, MediaType.APPLICATION_JSON);
+    }
+
+    protected <T> ResponseEntity<Object> post(String path, int userId, T body, MediaType contentType) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, null, body, contentType);
     }
 
     protected <T> ResponseEntity<Object> put(String path, int userId, T body) {
@@ -48,7 +68,7 @@ public class BaseClient {
     }
 
     protected <T> ResponseEntity<Object> put(String path, int userId, @Nullable Map<String, Object> parameters, T body) {
-        return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
+        return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body, MediaType.APPLICATION_JSON);
     }
 
     protected <T> ResponseEntity<Object> patch(String path, T body) {
@@ -68,7 +88,7 @@ public class BaseClient {
     }
 
     protected <T> ResponseEntity<Object> patch(String path, Integer userId, @Nullable Map<String, Object> parameters, T body) {
-        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body, MediaType.APPLICATION_JSON);
     }
 
     protected ResponseEntity<Object> delete(String path) {
@@ -80,28 +100,33 @@ public class BaseClient {
     }
 
     protected ResponseEntity<Object> delete(String path, Integer userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
+        return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null, MediaType.APPLICATION_JSON);
     }
 
-    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Integer userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Integer userId, @Nullable Map<String, Object> parameters, @Nullable T body, MediaType contentType) {
+        URI uri = expand(path, parameters);
+        return serverCallGuard.execute(method, uri, userId, target -> exchange(method, target, userId, body, contentType));
+    }
+
+    private <T> ResponseEntity<Object> exchange(HttpMethod method, URI uri, Integer userId, @Nullable T body, MediaType contentType) {
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId, contentType));
 
-        ResponseEntity<Object> shareitServerResponse;
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
+            shareitServerResponse = rest.exchange(uri, method, requestEntity, byte[].class);
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        return prepareGatewayResponse(shareitServerResponse.getStatusCode(), shareitServerResponse.getHeaders(), shareitServerResponse.getBody());
+    }
+
+    private URI expand(String path, @Nullable Map<String, Object> parameters) {
+        return rest.getUriTemplateHandler().expand(path, parameters != null ? parameters : Map.of());
     }
 
-    private HttpHeaders defaultHeaders(Integer userId) {
+    private HttpHeaders defaultHeaders(Integer userId, MediaType contentType) {
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentType(contentType);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         if (userId != null) {
             headers.set("X-Sharer-User-Id", String.valueOf(userId));
@@ -109,15 +134,16 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
+    private static ResponseEntity<Object> prepareGatewayResponse(HttpStatus status, @Nullable HttpHeaders headers, @Nullable byte[] body) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status);
 
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+        MediaType contentType = headers != null ? headers.getContentType() : null;
+        if (contentType != null) {
+            responseBuilder.contentType(contentType);
+        }
 
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
+        if (body != null && body.length > 0) {
+            return responseBuilder.body(body);
         }
 
         return responseBuilder.build();
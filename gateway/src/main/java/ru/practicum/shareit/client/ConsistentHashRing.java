@@ -0,0 +1,66 @@
+package ru.practicum.shareit.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+public class ConsistentHashRing {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] points;
+    private final ServerNode[] owners;
+
+    public ConsistentHashRing(List<ServerNode> nodes, int virtualNodes) {
+        TreeMap<Long, ServerNode> ring = new TreeMap<>();
+        for (ServerNode node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.putIfAbsent(hash(node.getBaseUri() + "#" + i), node);
+            }
+        }
+        this.points = new long[ring.size()];
+        this.owners = new ServerNode[ring.size()];
+        int i = 0;
+        for (Map.Entry<Long, ServerNode> entry : ring.entrySet()) {
+            points[i] = entry.getKey();
+            owners[i] = entry.getValue();
+            i++;
+        }
+    }
+
+    public ServerNode select(String key, int skip, Predicate<ServerNode> eligible) {
+        int start = Arrays.binarySearch(points, hash(key));
+        if (start < 0) {
+            start = -start - 1;
+        }
+
+        List<ServerNode> seen = new ArrayList<>();
+        ServerNode selected = null;
+        for (int step = 0; step < points.length && seen.size() <= skip; step++) {
+            ServerNode node = owners[(start + step) % points.length];
+            if (eligible.test(node) && !seen.contains(node)) {
+                seen.add(node);
+                selected = node;
+            }
+        }
+        return selected;
+    }
+
+    static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
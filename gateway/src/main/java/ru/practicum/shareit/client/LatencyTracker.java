@@ -0,0 +1,39 @@
+package ru.practicum.shareit.client;
+
+import java.util.Arrays;
+
+public class LatencyTracker {
+    private static final int WINDOW = 1000;
+    private static final int RECOMPUTE_EVERY = 50;
+
+    private final long[] samples = new long[WINDOW];
+    private final double percentile;
+    private final int minSamples;
+    private int recorded;
+    private int next;
+    private long sinceRecompute;
+    private volatile long percentileNanos = -1;
+
+    public LatencyTracker(double percentile, int minSamples) {
+        this.percentile = percentile;
+        this.minSamples = Math.min(minSamples, WINDOW);
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % WINDOW;
+        if (recorded < WINDOW) {
+            recorded++;
+        }
+        if (recorded >= minSamples && ++sinceRecompute >= RECOMPUTE_EVERY) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, recorded);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[(int) Math.ceil(percentile * recorded) - 1];
+        }
+    }
+
+    public long getPercentileNanos() {
+        return percentileNanos;
+    }
+}
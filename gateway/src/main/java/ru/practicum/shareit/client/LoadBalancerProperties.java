@@ -0,0 +1,26 @@
+package ru.practicum.shareit.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "shareit-server.load-balancer")
+public class LoadBalancerProperties {
+    private List<String> urls = new ArrayList<>();
+    private boolean stickyUsers = false;
+    private int virtualNodes = 100;
+    private boolean healthCheckEnabled = true;
+    private String healthCheckPath = "/actuator/health";
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+    private int unhealthyThreshold = 2;
+    private int healthyThreshold = 2;
+    private int maxConsecutiveFailures = 5;
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+}
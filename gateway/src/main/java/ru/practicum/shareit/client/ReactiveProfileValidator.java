@@ -0,0 +1,40 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.ratelimit.RateLimitProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveProfileValidator implements InitializingBean {
+    private final LoadBalancerProperties loadBalancerProperties;
+    private final RateLimitProperties rateLimitProperties;
+    private final ResponseCacheProperties responseCacheProperties;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!loadBalancerProperties.getUrls().isEmpty()) {
+            throw new IllegalStateException("shareit-server.load-balancer.urls is not supported with the reactive profile, "
+                    + "use shareit-server.url or run without the reactive profile");
+        }
+
+        List<String> ignored = new ArrayList<>();
+        if (rateLimitProperties.isEnabled()) {
+            ignored.add("shareit.rate-limit");
+        }
+        if (responseCacheProperties.isEnabled()) {
+            ignored.add("shareit-server.cache");
+        }
+        ignored.add("shareit-server.resilience");
+        log.warn("The reactive gateway ignores {}: rate limiting, response caching, request coalescing, timeouts, "
+                + "circuit breaking, hedging and bulk import are only available without the reactive profile", ignored);
+    }
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "shareit-server.resilience")
+public class ResilienceProperties {
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private Duration defaultTimeout = Duration.ofSeconds(5);
+    private Map<String, Duration> timeouts = new HashMap<>();
+    private int maxThreads = 200;
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Hedging hedging = new Hedging();
+
+    public Duration getTimeout(String endpoint) {
+        return timeouts.getOrDefault(endpoint, defaultTimeout);
+    }
+
+    public static String endpointOf(URI uri) {
+        return ID_SEGMENT.matcher(uri.getRawPath()).replaceAll("/{id}");
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+        private int failureRateThreshold = 50;
+        private Duration openDuration = Duration.ofSeconds(10);
+        private int halfOpenCalls = 5;
+    }
+
+    @Data
+    public static class Hedging {
+        private boolean enabled = true;
+        private double percentile = 0.95;
+        private int minSamples = 100;
+        private Duration minDelay = Duration.ofMillis(10);
+        private Duration maxDelay = Duration.ofSeconds(1);
+    }
+}
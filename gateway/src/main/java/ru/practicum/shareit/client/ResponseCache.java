@@ -0,0 +1,69 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+@Profile("!reactive")
+public class ResponseCache implements MeterBinder {
+    private static final char QUERY_SEPARATOR = '?';
+
+    private final boolean enabled;
+    private final Cache<String, ResponseEntity<Object>> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ResponseCache(ResponseCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    public ResponseEntity<Object> get(String key, Supplier<ResponseEntity<Object>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        ResponseEntity<Object> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+        ResponseEntity<Object> response = loader.get();
+        if (response.getStatusCode().is2xxSuccessful() && evictions.get() == evictionsBeforeLoad) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    public static String createKey(URI uri, Integer userId) {
+        return uri.getRawPath() + QUERY_SEPARATOR + (uri.getRawQuery() != null ? uri.getRawQuery() : "") + '#' + userId;
+    }
+
+    public void evict(String path) {
+        evictAll(path + QUERY_SEPARATOR);
+    }
+
+    public void evictAll(String pathPrefix) {
+        evictions.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.startsWith(pathPrefix));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "shareit-server-responses");
+    }
+}
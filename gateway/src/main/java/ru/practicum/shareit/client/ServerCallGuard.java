@@ -0,0 +1,213 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+@Profile("!reactive")
+public class ServerCallGuard implements MeterBinder, DisposableBean {
+    private final ResilienceProperties properties;
+    private final ServerLoadBalancer loadBalancer;
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrentMap<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final LongAdder hedgedCalls = new LongAdder();
+    private final LongAdder timedOutCalls = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+    private final LongAdder bulkheadRejectedCalls = new LongAdder();
+
+    public ServerCallGuard(ResilienceProperties properties, ServerLoadBalancer loadBalancer) {
+        this.properties = properties;
+        this.loadBalancer = loadBalancer;
+        this.circuitBreaker = new CircuitBreaker(properties.getCircuitBreaker());
+        this.executor = new ThreadPoolExecutor(0, properties.getMaxThreads(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("shareit-server-call-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public ResponseEntity<Object> execute(HttpMethod method, URI uri, Integer userId, Function<URI, ResponseEntity<Object>> exchange) {
+        if (!circuitBreaker.tryAcquirePermission(System.nanoTime())) {
+            rejectedCalls.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "ShareIt server is unavailable");
+        }
+
+        Supplier<ResponseEntity<Object>> call = () -> loadBalancer.execute(uri, userId, 0, exchange);
+        String endpoint = ResilienceProperties.endpointOf(uri);
+        long timeoutNanos = properties.getTimeout(endpoint).toNanos();
+        long start = System.nanoTime();
+        CompletableFuture<ResponseEntity<Object>> primary;
+        CompletableFuture<ResponseEntity<Object>> hedge = null;
+        try {
+            ResponseEntity<Object> response;
+            if (method == HttpMethod.GET) {
+                LatencyTracker tracker = latencies.computeIfAbsent(endpoint, key -> new LatencyTracker(
+                        properties.getHedging().getPercentile(), properties.getHedging().getMinSamples()));
+                primary = submit(timed(call, tracker));
+                long hedgeDelayNanos = getHedgeDelayNanos(tracker);
+                if (hedgeDelayNanos >= 0 && hedgeDelayNanos < timeoutNanos) {
+                    try {
+                        return onResult(primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS));
+                    } catch (TimeoutException e) {
+                        hedge = tryHedge(timed(() -> loadBalancer.execute(uri, userId, 1, exchange), tracker));
+                    }
+                }
+                response = firstSuccessful(primary, hedge).get(timeoutNanos - (System.nanoTime() - start), TimeUnit.NANOSECONDS);
+            } else {
+                primary = submit(call);
+                response = primary.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            }
+            return onResult(response);
+        } catch (TimeoutException e) {
+            timedOutCalls.increment();
+            circuitBreaker.onFailure(System.nanoTime());
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "ShareIt server did not respond in time");
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure(System.nanoTime());
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Request was interrupted");
+        }
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> submit(Supplier<ResponseEntity<Object>> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            bulkheadRejectedCalls.increment();
+            circuitBreaker.releasePermission();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent calls to ShareIt server");
+        }
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> tryHedge(Supplier<ResponseEntity<Object>> call) {
+        try {
+            CompletableFuture<ResponseEntity<Object>> hedge = CompletableFuture.supplyAsync(call, executor);
+            hedgedCalls.increment();
+            return hedge;
+        } catch (RejectedExecutionException e) {
+            bulkheadRejectedCalls.increment();
+            return null;
+        }
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Map<String, Long> getHedgeDelaysMillis() {
+        Map<String, Long> delays = new TreeMap<>();
+        latencies.forEach((endpoint, tracker) -> delays.put(endpoint,
+                TimeUnit.NANOSECONDS.toMillis(getHedgeDelayNanos(tracker))));
+        return delays;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("shareit.gateway.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .register(registry);
+        Gauge.builder("shareit.gateway.circuit.failure.rate", circuitBreaker, CircuitBreaker::getFailureRate)
+                .register(registry);
+        FunctionCounter.builder("shareit.gateway.server.calls.hedged", hedgedCalls, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("shareit.gateway.server.calls.timed.out", timedOutCalls, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("shareit.gateway.server.calls.rejected", rejectedCalls, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("shareit.gateway.server.calls.bulkhead.rejected", bulkheadRejectedCalls, LongAdder::sum)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private ResponseEntity<Object> onResult(ResponseEntity<Object> response) {
+        if (response.getStatusCode().is5xxServerError()) {
+            circuitBreaker.onFailure(System.nanoTime());
+        } else {
+            circuitBreaker.onSuccess();
+        }
+        return response;
+    }
+
+    private long getHedgeDelayNanos(LatencyTracker tracker) {
+        ResilienceProperties.Hedging hedging = properties.getHedging();
+        long percentileNanos = tracker.getPercentileNanos();
+        if (!hedging.isEnabled() || percentileNanos < 0) {
+            return -1;
+        }
+        return Math.min(Math.max(percentileNanos, hedging.getMinDelay().toNanos()), hedging.getMaxDelay().toNanos());
+    }
+
+    private static Supplier<ResponseEntity<Object>> timed(Supplier<ResponseEntity<Object>> call, LatencyTracker tracker) {
+        return () -> {
+            long start = System.nanoTime();
+            ResponseEntity<Object> response = call.get();
+            tracker.record(System.nanoTime() - start);
+            return response;
+        };
+    }
+
+    static CompletableFuture<ResponseEntity<Object>> firstSuccessful(CompletableFuture<ResponseEntity<Object>> primary,
+                                                                    CompletableFuture<ResponseEntity<Object>> hedge) {
+        if (hedge == null) {
+            return primary;
+        }
+        CompletableFuture<ResponseEntity<Object>> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        AtomicReference<ResponseEntity<Object>> serverError = new AtomicReference<>();
+        for (CompletableFuture<ResponseEntity<Object>> attempt : List.of(primary, hedge)) {
+            attempt.whenComplete((response, exception) -> {
+                if (exception == null && !response.getStatusCode().is5xxServerError()) {
+                    result.complete(response);
+                    return;
+                }
+                if (exception == null) {
+                    serverError.compareAndSet(null, response);
+                }
+                if (failures.incrementAndGet() == 2) {
+                    if (serverError.get() != null) {
+                        result.complete(serverError.get());
+                    } else {
+                        result.completeExceptionally(exception.getCause() != null ? exception.getCause() : exception);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+}
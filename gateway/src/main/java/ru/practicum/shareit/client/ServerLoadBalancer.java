@@ -0,0 +1,161 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ServerLoadBalancer implements MeterBinder, InitializingBean, DisposableBean {
+    private final LoadBalancerProperties properties;
+    private final List<ServerNode> nodes;
+    private final ConsistentHashRing ring;
+    private final RestTemplate healthCheckRest;
+    private ScheduledExecutorService healthChecker;
+
+    public ServerLoadBalancer(@Value("${shareit-server.url}") String serverUrl, LoadBalancerProperties properties,
+                              RestTemplateBuilder builder) {
+        this.properties = properties;
+        List<String> urls = properties.getUrls().isEmpty() ? List.of(serverUrl) : properties.getUrls();
+        this.nodes = urls.stream()
+                .map(url -> new ServerNode(URI.create(url.trim())))
+                .collect(Collectors.toUnmodifiableList());
+        this.ring = new ConsistentHashRing(nodes, properties.getVirtualNodes());
+        this.healthCheckRest = builder
+                .setConnectTimeout(properties.getHealthCheckTimeout())
+                .setReadTimeout(properties.getHealthCheckTimeout())
+                .build();
+    }
+
+    public ResponseEntity<Object> execute(URI uri, Integer userId, int attempt, Function<URI, ResponseEntity<Object>> call) {
+        ServerNode node = choose(userId, attempt);
+        node.onStart();
+        ResponseEntity<Object> response;
+        try {
+            response = call.apply(node.resolve(uri));
+        } catch (RestClientException e) {
+            onFailure(node);
+            throw e;
+        }
+        if (response.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE) {
+            onFailure(node);
+        } else {
+            node.onSuccess();
+        }
+        return response;
+    }
+
+    public List<ServerNode> getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.isHealthCheckEnabled()) {
+            return;
+        }
+        long interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("shareit-server-health-"));
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ServerNode node : nodes) {
+            String url = node.getBaseUri().toString();
+            Gauge.builder("shareit.gateway.server.node.outstanding", node, ServerNode::getOutstanding)
+                    .tag("node", url)
+                    .register(registry);
+            Gauge.builder("shareit.gateway.server.node.available", node, n -> n.isAvailable(System.nanoTime()) ? 1 : 0)
+                    .tag("node", url)
+                    .register(registry);
+        }
+    }
+
+    private ServerNode choose(Integer userId, int attempt) {
+        if (nodes.size() == 1) {
+            return nodes.get(0);
+        }
+
+        long now = System.nanoTime();
+        if (properties.isStickyUsers() && userId != null) {
+            String key = String.valueOf(userId);
+            ServerNode node = ring.select(key, attempt, candidate -> candidate.isAvailable(now));
+            return node != null ? node : ring.select(key, attempt, candidate -> true);
+        }
+
+        List<ServerNode> candidates = new ArrayList<>(nodes.size());
+        for (ServerNode node : nodes) {
+            if (node.isAvailable(now)) {
+                candidates.add(node);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates = nodes;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServerNode a = candidates.get(first);
+        ServerNode b = candidates.get(second);
+        return a.getOutstanding() <= b.getOutstanding() ? a : b;
+    }
+
+    private void onFailure(ServerNode node) {
+        node.onFailure(System.nanoTime(), properties.getMaxConsecutiveFailures(), properties.getEjectionDuration().toNanos());
+    }
+
+    private void checkHealth() {
+        for (ServerNode node : nodes) {
+            boolean passed;
+            try {
+                passed = healthCheckRest.getForEntity(node.getBaseUri().resolve(properties.getHealthCheckPath()), String.class)
+                        .getStatusCode().is2xxSuccessful();
+            } catch (RestClientException e) {
+                passed = false;
+            }
+            boolean wasHealthy = node.isHealthy();
+            node.onHealthCheck(passed, properties.getUnhealthyThreshold(), properties.getHealthyThreshold());
+            if (wasHealthy != node.isHealthy()) {
+                log.warn("ShareIt server {} is now {}", node.getBaseUri(), node.isHealthy() ? "healthy" : "unhealthy");
+            }
+        }
+    }
+}
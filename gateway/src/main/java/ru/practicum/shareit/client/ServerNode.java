@@ -0,0 +1,76 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ServerNode {
+    private final URI baseUri;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile boolean healthy = true;
+    private volatile long ejectedUntil;
+    private int failedChecks;
+    private int passedChecks;
+
+    public ServerNode(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    public URI getBaseUri() {
+        return baseUri;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public boolean isAvailable(long nowNanos) {
+        return healthy && nowNanos - ejectedUntil >= 0;
+    }
+
+    URI resolve(URI uri) {
+        return UriComponentsBuilder.fromUri(uri)
+                .scheme(baseUri.getScheme())
+                .host(baseUri.getHost())
+                .port(baseUri.getPort())
+                .build(true)
+                .toUri();
+    }
+
+    void onStart() {
+        outstanding.incrementAndGet();
+    }
+
+    void onSuccess() {
+        outstanding.decrementAndGet();
+        consecutiveFailures.set(0);
+    }
+
+    void onFailure(long nowNanos, int maxConsecutiveFailures, long ejectionNanos) {
+        outstanding.decrementAndGet();
+        if (consecutiveFailures.incrementAndGet() >= maxConsecutiveFailures) {
+            consecutiveFailures.set(0);
+            ejectedUntil = nowNanos + ejectionNanos;
+        }
+    }
+
+    void onHealthCheck(boolean passed, int unhealthyThreshold, int healthyThreshold) {
+        if (passed) {
+            failedChecks = 0;
+            if (!healthy && ++passedChecks >= healthyThreshold) {
+                healthy = true;
+            }
+        } else {
+            passedChecks = 0;
+            if (healthy && ++failedChecks >= unhealthyThreshold) {
+                healthy = false;
+            }
+        }
+    }
+}
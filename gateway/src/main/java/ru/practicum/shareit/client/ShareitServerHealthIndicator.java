@@ -0,0 +1,57 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("!reactive")
+public class ShareitServerHealthIndicator extends AbstractHealthIndicator {
+    private static final Status CIRCUIT_OPEN = new Status("CIRCUIT_OPEN");
+    private static final Status CIRCUIT_HALF_OPEN = new Status("CIRCUIT_HALF_OPEN");
+
+    private final ServerCallGuard serverCallGuard;
+    private final ServerLoadBalancer loadBalancer;
+
+    public ShareitServerHealthIndicator(ServerCallGuard serverCallGuard, ServerLoadBalancer loadBalancer) {
+        this.serverCallGuard = serverCallGuard;
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        CircuitBreaker circuitBreaker = serverCallGuard.getCircuitBreaker();
+        switch (circuitBreaker.getState()) {
+            case OPEN:
+                builder.status(CIRCUIT_OPEN);
+                break;
+            case HALF_OPEN:
+                builder.status(CIRCUIT_HALF_OPEN);
+                break;
+            default:
+                builder.up();
+        }
+        builder.withDetail("circuitState", circuitBreaker.getState())
+                .withDetail("failureRate", circuitBreaker.getFailureRate())
+                .withDetail("bufferedCalls", circuitBreaker.getBufferedCalls())
+                .withDetail("hedgeDelaysMillis", serverCallGuard.getHedgeDelaysMillis())
+                .withDetail("nodes", getNodeDetails());
+    }
+
+    private List<Map<String, Object>> getNodeDetails() {
+        long now = System.nanoTime();
+        return loadBalancer.getNodes().stream()
+                .map(node -> Map.<String, Object>of(
+                        "url", node.getBaseUri().toString(),
+                        "healthy", node.isHealthy(),
+                        "available", node.isAvailable(now),
+                        "outstanding", node.getOutstanding()))
+                .collect(Collectors.toList());
+    }
+}
@@ -3,47 +3,68 @@ package ru.practicum.shareit.item;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerCallGuard;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemIdsRequestDto;
 import ru.practicum.shareit.item.dto.ItemRequestDto;
 
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Set;
 
 @Service
+@Profile("!reactive")
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
     private static final String TEXT = "text";
     private static final String FROM = "from";
     private static final String SIZE = "size";
+    private static final String TO = "to";
+    private static final String SEARCH_PATH = API_PREFIX + "/search";
+    private static final String REQUESTS_PREFIX = "/requests/";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder, ClientHttpRequestFactory requestFactory, ResponseCache responseCache, ServerCallGuard serverCallGuard) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                responseCache,
+                serverCallGuard
         );
     }
 
     public ResponseEntity<Object> postItem(int ownerId, ItemRequestDto itemRequestDto) {
-        return post("", ownerId, itemRequestDto);
+        ResponseEntity<Object> response = post("", ownerId, itemRequestDto);
+        responseCache.evict(SEARCH_PATH);
+        if (itemRequestDto.getRequestId() != null) {
+            responseCache.evict(REQUESTS_PREFIX + itemRequestDto.getRequestId());
+        }
+        return response;
     }
 
     public ResponseEntity<Object> patchItem(int itemId, int ownerId, ItemRequestDto itemRequestDto) {
-        return patch("/" + itemId, ownerId, itemRequestDto);
+        ResponseEntity<Object> response = patch("/" + itemId, ownerId, itemRequestDto);
+        evictItem(itemId);
+        return response;
     }
 
     public ResponseEntity<Object> getItemById(int ownerId, int itemId) {
-        return get("/" + itemId, ownerId);
+        return getCached("/" + itemId, ownerId);
     }
 
     public void deleteItemById(int itemId) {
         delete("/" + itemId);
+        evictItem(itemId);
     }
 
     public ResponseEntity<Object> getAllItems(int ownerId, int from, int size) {
@@ -54,16 +75,42 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", ownerId, parameters);
     }
 
+    public ResponseEntity<Object> getItemsByIds(int ownerId, ItemIdsRequestDto itemIdsRequestDto) {
+        return post("/batch-get", ownerId, itemIdsRequestDto);
+    }
+
+    public ResponseEntity<Object> importItems(int ownerId, byte[] items, Set<Integer> requestIds) {
+        ResponseEntity<Object> response = post("/bulk", ownerId, items, MediaType.APPLICATION_NDJSON);
+        responseCache.evict(SEARCH_PATH);
+        requestIds.forEach(requestId -> responseCache.evict(REQUESTS_PREFIX + requestId));
+        return response;
+    }
+
     public ResponseEntity<Object> getSearchedItems(String text, int from, int size) {
         Map<String, Object> parameters = Map.of(
                 TEXT, text,
                 FROM, from,
                 SIZE, size
         );
-        return get("/search?text={text}&from={from}&size={size}", parameters);
+        return getCached("/search?text={text}&from={from}&size={size}", null, parameters);
     }
 
     public ResponseEntity<Object> postComment(int ownerId, int itemId, CommentRequestDto commentRequestDto) {
-        return post("/" + itemId + "/comment", ownerId, commentRequestDto);
+        ResponseEntity<Object> response = post("/" + itemId + "/comment", ownerId, commentRequestDto);
+        responseCache.evict(API_PREFIX + "/" + itemId);
+        return response;
+    }
+
+    public ResponseEntity<Object> getItemAvailability(int itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of(
+                FROM, from,
+                TO, to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", parameters);
+    }
+
+    private void evictItem(int itemId) {
+        responseCache.evict(API_PREFIX + "/" + itemId);
+        responseCache.evict(SEARCH_PATH);
     }
 }
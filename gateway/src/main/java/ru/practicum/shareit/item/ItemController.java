@@ -1,24 +1,47 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemIdsRequestDto;
 import ru.practicum.shareit.item.dto.ItemRequestDto;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import javax.validation.constraints.Min;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/items")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
+@Profile("!reactive")
 public class ItemController {
     private final ItemClient itemClient;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
     private static final String OWNER_HEADER = "X-Sharer-User-Id";
+    private static final Duration MAX_AVAILABILITY_PERIOD = Duration.ofDays(366);
+    private static final int MAX_IMPORT_ITEMS = 10_000;
+    private static final int MAX_IMPORT_BYTES = 10 * 1024 * 1024;
 
     @PostMapping
     public ResponseEntity<Object> postItem(@Valid @RequestBody ItemRequestDto itemRequestDto,
@@ -56,6 +79,30 @@ public class ItemController {
         return itemClient.getAllItems(ownerId, from, size);
     }
 
+    @PostMapping("/batch-get")
+    public ResponseEntity<Object> getItemsByIds(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                @Valid @RequestBody ItemIdsRequestDto itemIdsRequestDto) {
+        log.info("Getting items userId={}, itemIds={}", ownerId, itemIdsRequestDto.getIds());
+        return itemClient.getItemsByIds(ownerId, itemIdsRequestDto);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Object> importItems(@RequestHeader(OWNER_HEADER) int ownerId,
+                                              @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+                                              InputStream body) throws IOException {
+        if (contentLength != null && contentLength > MAX_IMPORT_BYTES) {
+            throw importTooLarge();
+        }
+        byte[] items = body.readNBytes(MAX_IMPORT_BYTES + 1);
+        if (items.length > MAX_IMPORT_BYTES) {
+            throw importTooLarge();
+        }
+        Set<Integer> requestIds = new HashSet<>();
+        int itemCount = validateItems(items, requestIds);
+        log.info("Importing {} items, userId={}", itemCount, ownerId);
+        return itemClient.importItems(ownerId, items, requestIds);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Object> getSearchedItems(@RequestParam String text,
                                                    @RequestParam(defaultValue = "0") @Min(0) int from,
@@ -71,4 +118,53 @@ public class ItemController {
         log.info("Creating comment={} userId={} itemId={} ", commentRequestDto, ownerId, itemId);
         return itemClient.postComment(ownerId, itemId, commentRequestDto);
     }
+
+    @GetMapping("/{itemId}/availability")
+    public ResponseEntity<Object> getItemAvailability(@PathVariable int itemId,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Getting availability itemId={} from={} to={}", itemId, from, to);
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_AVAILABILITY_PERIOD) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error with availability period");
+        }
+        return itemClient.getItemAvailability(itemId, from, to);
+    }
+
+    private int validateItems(byte[] items, Set<Integer> requestIds) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(items), StandardCharsets.UTF_8));
+        int itemCount = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (itemCount == MAX_IMPORT_ITEMS) {
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Import is limited to " + MAX_IMPORT_ITEMS + " items");
+            }
+            ItemRequestDto itemRequestDto;
+            try {
+                itemRequestDto = objectMapper.readValue(line, ItemRequestDto.class);
+            } catch (JsonProcessingException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed item at line " + lineNumber);
+            }
+            Set<ConstraintViolation<ItemRequestDto>> violations = validator.validate(itemRequestDto);
+            if (!violations.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid item at line " + lineNumber + ": " + violations.iterator().next().getMessage());
+            }
+            if (itemRequestDto.getRequestId() != null) {
+                requestIds.add(itemRequestDto.getRequestId());
+            }
+            itemCount++;
+        }
+        if (itemCount == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Import contains no items");
+        }
+        return itemCount;
+    }
+
+    private static ResponseStatusException importTooLarge() {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Import is limited to " + MAX_IMPORT_BYTES + " bytes");
+    }
 }
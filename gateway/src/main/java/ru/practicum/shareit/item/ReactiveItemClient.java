@@ -0,0 +1,78 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemIdsRequestDto;
+import ru.practicum.shareit.item.dto.ItemRequestDto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+    private static final String TEXT = "text";
+    private static final String FROM = "from";
+    private static final String SIZE = "size";
+    private static final String TO = "to";
+
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<byte[]>> postItem(int ownerId, ItemRequestDto itemRequestDto) {
+        return post("", ownerId, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> patchItem(int itemId, int ownerId, ItemRequestDto itemRequestDto) {
+        return patch("/" + itemId, ownerId, null, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemById(int ownerId, int itemId) {
+        return get("/" + itemId, ownerId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> deleteItemById(int itemId) {
+        return delete("/" + itemId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllItems(int ownerId, int from, int size) {
+        Map<String, Object> parameters = Map.of(
+                FROM, from,
+                SIZE, size
+        );
+        return get("?from={from}&size={size}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemsByIds(int ownerId, ItemIdsRequestDto itemIdsRequestDto) {
+        return post("/batch-get", ownerId, itemIdsRequestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getSearchedItems(String text, int from, int size) {
+        Map<String, Object> parameters = Map.of(
+                TEXT, text,
+                FROM, from,
+                SIZE, size
+        );
+        return get("/search?text={text}&from={from}&size={size}", parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> postComment(int ownerId, int itemId, CommentRequestDto commentRequestDto) {
+        return post("/" + itemId + "/comment", ownerId, commentRequestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemAvailability(int itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of(
+                FROM, from,
+                TO, to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", parameters);
+    }
+}
@@ -0,0 +1,102 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemIdsRequestDto;
+import ru.practicum.shareit.item.dto.ItemRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/items")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Profile("reactive")
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+    private static final String OWNER_HEADER = "X-Sharer-User-Id";
+    private static final Duration MAX_AVAILABILITY_PERIOD = Duration.ofDays(366);
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> postItem(@Valid @RequestBody ItemRequestDto itemRequestDto,
+                                                 @RequestHeader(OWNER_HEADER) int ownerId) {
+        log.info("Creating item {}, userId={}", itemRequestDto, ownerId);
+        return itemClient.postItem(ownerId, itemRequestDto);
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> patchItem(@PathVariable int itemId,
+                                                  @RequestHeader(OWNER_HEADER) int ownerId,
+                                                  @RequestBody ItemRequestDto itemRequestDto) {
+        log.info("Updating item {}, userId={}, itemId={}", itemRequestDto, ownerId, itemId);
+        return itemClient.patchItem(itemId, ownerId, itemRequestDto);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> getItemById(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                    @PathVariable int itemId) {
+        log.info("Getting userId={}, itemId={}", ownerId, itemId);
+        return itemClient.getItemById(ownerId, itemId);
+    }
+
+    @DeleteMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> deleteItemById(@PathVariable int itemId) {
+        log.info("Deleting itemId={}", itemId);
+        return itemClient.deleteItemById(itemId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAllItems(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                    @RequestParam(defaultValue = "0") @Min(0) int from,
+                                                    @RequestParam(defaultValue = "10") @Min(1) int size) {
+        log.info("Getting all items userId={} ", ownerId);
+        return itemClient.getAllItems(ownerId, from, size);
+    }
+
+    @PostMapping("/batch-get")
+    public Mono<ResponseEntity<byte[]>> getItemsByIds(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                      @Valid @RequestBody ItemIdsRequestDto itemIdsRequestDto) {
+        log.info("Getting items userId={}, itemIds={}", ownerId, itemIdsRequestDto.getIds());
+        return itemClient.getItemsByIds(ownerId, itemIdsRequestDto);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<byte[]>> getSearchedItems(@RequestParam String text,
+                                                         @RequestParam(defaultValue = "0") @Min(0) int from,
+                                                         @RequestParam(defaultValue = "10") @Min(1) int size) {
+        log.info("Getting all searched items text={} ", text);
+        return itemClient.getSearchedItems(text, from, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<byte[]>> postComment(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                    @PathVariable int itemId,
+                                                    @Valid @RequestBody CommentRequestDto commentRequestDto) {
+        log.info("Creating comment={} userId={} itemId={} ", commentRequestDto, ownerId, itemId);
+        return itemClient.postComment(ownerId, itemId, commentRequestDto);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<byte[]>> getItemAvailability(@PathVariable int itemId,
+                                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Getting availability itemId={} from={} to={}", itemId, from, to);
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_AVAILABILITY_PERIOD) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error with availability period");
+        }
+        return itemClient.getItemAvailability(itemId, from, to);
+    }
+}
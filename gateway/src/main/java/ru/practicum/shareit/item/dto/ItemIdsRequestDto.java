@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@NoArgsConstructor(force = true)
+@RequiredArgsConstructor
+public class ItemIdsRequestDto {
+    @NotEmpty(message = "ids can't be empty")
+    @Size(max = 100, message = "no more than 100 ids per request")
+    private final List<@NotNull Integer> ids;
+}
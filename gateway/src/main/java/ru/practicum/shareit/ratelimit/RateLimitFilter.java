@@ -0,0 +1,90 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Profile("!reactive")
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String OWNER_HEADER = "X-Sharer-User-Id";
+    private static final String ACTUATOR_PREFIX = "/actuator";
+
+    private final RateLimitProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+    private final Semaphore concurrencyLimit;
+    private final Counter rateLimited;
+    private final Counter concurrencyLimited;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleBucketExpiry())
+                .build();
+        this.concurrencyLimit = new Semaphore(properties.getMaxConcurrentRequests());
+        this.rateLimited = rejections(meterRegistry, "rate");
+        this.concurrencyLimited = rejections(meterRegistry, "concurrency");
+        Gauge.builder("shareit.gateway.requests.in.flight", concurrencyLimit,
+                        limit -> properties.getMaxConcurrentRequests() - limit.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || request.getRequestURI().startsWith(ACTUATOR_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long nowNanos = System.nanoTime();
+        TokenBucket bucket = buckets.get(clientKey(request),
+                key -> new TokenBucket(properties.getCapacity(), properties.getTokensPerSecond(), nowNanos));
+        long waitNanos = bucket.tryConsume(properties.getCost(request.getRequestURI()), nowNanos);
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos))));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded");
+            return;
+        }
+
+        if (!concurrencyLimit.tryAcquire()) {
+            concurrencyLimited.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Gateway is overloaded");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimit.release();
+        }
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String userId = request.getHeader(OWNER_HEADER);
+        return userId != null ? "user:" + userId : "address:" + request.getRemoteAddr();
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("shareit.gateway.requests.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
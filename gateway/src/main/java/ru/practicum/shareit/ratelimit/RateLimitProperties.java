@@ -0,0 +1,26 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "shareit.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int capacity = 50;
+    private double tokensPerSecond = 20;
+    private Map<String, Integer> costs = new HashMap<>();
+    private int maxConcurrentRequests = 400;
+    private Duration idleBucketExpiry = Duration.ofMinutes(10);
+    private long maxBuckets = 100_000;
+
+    public int getCost(String path) {
+        return costs.getOrDefault(path, 1);
+    }
+}
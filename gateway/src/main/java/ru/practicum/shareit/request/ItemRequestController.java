@@ -2,6 +2,7 @@ package ru.practicum.shareit.request;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +16,7 @@ import javax.validation.constraints.Min;
 @RequestMapping(path = "/requests")
 @Slf4j
 @Validated
+@Profile("!reactive")
 public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
     private static final String OWNER_HEADER = "X-Sharer-User-Id";
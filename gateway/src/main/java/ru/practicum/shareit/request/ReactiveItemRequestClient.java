@@ -0,0 +1,44 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestRequestDto;
+
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/requests";
+    private static final String FROM = "from";
+    private static final String SIZE = "size";
+
+    public ReactiveItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<byte[]>> postItemRequest(int ownerId, ItemRequestRequestDto itemRequestRequestDto) {
+        return post("", ownerId, itemRequestRequestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemRequests(int ownerId) {
+        return get("", ownerId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllItemRequests(int ownerId, int from, int size) {
+        Map<String, Object> parameters = Map.of(
+                FROM, from,
+                SIZE, size
+        );
+        return get("/all?from={from}&size={size}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemRequestById(int ownerId, int requestId) {
+        return get("/" + requestId, ownerId);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.request;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.request.dto.ItemRequestRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping(path = "/requests")
+@Slf4j
+@Validated
+@Profile("reactive")
+public class ReactiveItemRequestController {
+    private final ReactiveItemRequestClient itemRequestClient;
+    private static final String OWNER_HEADER = "X-Sharer-User-Id";
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> postItemRequest(@Valid @RequestBody ItemRequestRequestDto itemRequestRequestDto,
+                                                        @RequestHeader(OWNER_HEADER) int ownerId) {
+        log.info("Creating item request {}, userId={}", itemRequestRequestDto, ownerId);
+        return itemRequestClient.postItemRequest(ownerId, itemRequestRequestDto);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getItemRequests(@RequestHeader(OWNER_HEADER) int ownerId) {
+        log.info("Getting item request, userId={}", ownerId);
+        return itemRequestClient.getItemRequests(ownerId);
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<byte[]>> getAllItemRequests(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                           @RequestParam(defaultValue = "0") @Min(0) int from,
+                                                           @RequestParam(defaultValue = "10") @Min(1) int size) {
+        log.info("Getting all item request, userId={}", ownerId);
+        return itemRequestClient.getAllItemRequests(ownerId, from, size);
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<byte[]>> getItemRequestById(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                           @PathVariable int requestId) {
+        log.debug("Вызван метод getItemRequestById");
+        return itemRequestClient.getItemRequestById(ownerId, requestId);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.dto.UserRequestDto;
+
+import javax.validation.Valid;
+
+@RestController
+@RequestMapping(path = "/users")
+@RequiredArgsConstructor
+@Slf4j
+@Profile("reactive")
+public class ReactiveUserController {
+
+    private final ReactiveUserClient userClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> postUser(@Valid @RequestBody UserRequestDto userRequestDto) {
+        log.info("Creating user {} ", userRequestDto);
+        return userClient.postUser(userRequestDto);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<byte[]>> patchUser(@RequestBody UserRequestDto userRequestDto,
+                                                  @PathVariable int id) {
+        log.info("Patch user {}, userId={}", userRequestDto, id);
+        return userClient.patchUser(id, userRequestDto);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<byte[]>> getUserById(@PathVariable int id) {
+        log.info("Get user userId={}", id);
+        return userClient.getUserById(id);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<byte[]>> deleteUserById(@PathVariable int id) {
+        log.info("delete user userId={}", id);
+        return userClient.deleteUserById(id);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAllUsers() {
+        log.info("get all users");
+        return userClient.getAllUsers();
+    }
+}
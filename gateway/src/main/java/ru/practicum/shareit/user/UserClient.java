@@ -3,25 +3,31 @@ package ru.practicum.shareit.user;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerCallGuard;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 
 @Service
+@Profile("!reactive")
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
+    private static final String ITEMS_PREFIX = "/items";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder, ClientHttpRequestFactory requestFactory, ResponseCache responseCache, ServerCallGuard serverCallGuard) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                responseCache,
+                serverCallGuard
         );
     }
 
@@ -30,15 +36,20 @@ public class UserClient extends BaseClient {
     }
 
     public ResponseEntity<Object> patchUser(int id, UserRequestDto userRequestDto) {
-        return patch("/" + id, userRequestDto);
+        ResponseEntity<Object> response = patch("/" + id, userRequestDto);
+        responseCache.evict(API_PREFIX + "/" + id);
+        responseCache.evictAll(ITEMS_PREFIX);
+        return response;
     }
 
     public ResponseEntity<Object> getUserById(int id) {
-        return get("/" + id);
+        return getCached("/" + id, null, null);
     }
 
     public void deleteUserById(int id) {
         delete("/" + id);
+        responseCache.evict(API_PREFIX + "/" + id);
+        responseCache.evictAll(ITEMS_PREFIX);
     }
 
     public ResponseEntity<Object> getAllUsers() {
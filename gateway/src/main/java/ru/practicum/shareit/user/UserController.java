@@ -2,6 +2,7 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.user.dto.UserRequestDto;
@@ -12,6 +13,7 @@ import javax.validation.Valid;
 @RequestMapping(path = "/users")
 @RequiredArgsConstructor
 @Slf4j
+@Profile("!reactive")
 public class UserController {
 
     private final UserClient userClient;
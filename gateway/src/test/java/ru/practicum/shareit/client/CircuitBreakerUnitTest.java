@@ -0,0 +1,113 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class CircuitBreakerUnitTest {
+
+    static final long OPEN_NANOS = Duration.ofSeconds(10).toNanos();
+
+    CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void generator() {
+        ResilienceProperties.CircuitBreaker properties = new ResilienceProperties.CircuitBreaker();
+        properties.setSlidingWindowSize(10);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setOpenDuration(Duration.ofNanos(OPEN_NANOS));
+        properties.setHalfOpenCalls(2);
+        circuitBreaker = new CircuitBreaker(properties);
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure(0);
+        }
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertTrue(circuitBreaker.tryAcquirePermission(0));
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure(0);
+        circuitBreaker.onFailure(0);
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertFalse(circuitBreaker.tryAcquirePermission(OPEN_NANOS - 1));
+    }
+
+    @Test
+    void slidingWindowForgetsOldFailures() {
+
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure(0);
+        }
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.onSuccess();
+        }
+        circuitBreaker.onFailure(0);
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertEquals(10, circuitBreaker.getFailureRate());
+    }
+
+    @Test
+    void halfOpenClosesAfterSuccessfulTrialCalls() {
+
+        open();
+
+        Assertions.assertTrue(circuitBreaker.tryAcquirePermission(OPEN_NANOS));
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        Assertions.assertTrue(circuitBreaker.tryAcquirePermission(OPEN_NANOS));
+        Assertions.assertFalse(circuitBreaker.tryAcquirePermission(OPEN_NANOS));
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertEquals(0, circuitBreaker.getBufferedCalls());
+    }
+
+    @Test
+    void halfOpenReopensOnFailure() {
+
+        open();
+        circuitBreaker.tryAcquirePermission(OPEN_NANOS);
+
+        circuitBreaker.onFailure(OPEN_NANOS);
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertFalse(circuitBreaker.tryAcquirePermission(2 * OPEN_NANOS - 1));
+        Assertions.assertTrue(circuitBreaker.tryAcquirePermission(2 * OPEN_NANOS));
+    }
+
+    @Test
+    void releasePermissionReturnsHalfOpenPermit() {
+
+        open();
+        circuitBreaker.tryAcquirePermission(OPEN_NANOS);
+        circuitBreaker.tryAcquirePermission(OPEN_NANOS);
+
+        circuitBreaker.releasePermission();
+
+        Assertions.assertTrue(circuitBreaker.tryAcquirePermission(OPEN_NANOS));
+        Assertions.assertFalse(circuitBreaker.tryAcquirePermission(OPEN_NANOS));
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure(0);
+        }
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+}
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ConsistentHashRingUnitTest {
+
+    static final int KEYS = 30_000;
+
+    ServerNode first;
+    ServerNode second;
+    ServerNode third;
+    ConsistentHashRing ring;
+
+    @BeforeEach
+    void generator() {
+        first = new ServerNode(URI.create("http://server-1:9090"));
+        second = new ServerNode(URI.create("http://server-2:9090"));
+        third = new ServerNode(URI.create("http://server-3:9090"));
+        ring = new ConsistentHashRing(List.of(first, second, third), 100);
+    }
+
+    @Test
+    void keysAreSpreadAcrossNodes() {
+
+        Map<ServerNode, Integer> counts = new HashMap<>();
+        for (int key = 0; key < KEYS; key++) {
+            counts.merge(ring.select(String.valueOf(key), 0, node -> true), 1, Integer::sum);
+        }
+
+        for (ServerNode node : List.of(first, second, third)) {
+            int count = counts.getOrDefault(node, 0);
+            Assertions.assertTrue(count > KEYS / 3 * 0.75 && count < KEYS / 3 * 1.25, node.getBaseUri() + ": " + count);
+        }
+    }
+
+    @Test
+    void removingNodeOnlyRemapsItsKeys() {
+
+        ConsistentHashRing reduced = new ConsistentHashRing(List.of(first, second), 100);
+
+        for (int key = 0; key < KEYS; key++) {
+            ServerNode before = ring.select(String.valueOf(key), 0, node -> true);
+            ServerNode after = reduced.select(String.valueOf(key), 0, node -> true);
+            if (before != third) {
+                Assertions.assertSame(before, after);
+            }
+        }
+    }
+
+    @Test
+    void ineligibleNodeIsSkippedLikeRemovedNode() {
+
+        ConsistentHashRing reduced = new ConsistentHashRing(List.of(first, second), 100);
+
+        for (int key = 0; key < 1_000; key++) {
+            Assertions.assertSame(reduced.select(String.valueOf(key), 0, node -> true),
+                    ring.select(String.valueOf(key), 0, node -> node != third));
+        }
+    }
+
+    @Test
+    void skipSelectsNextDistinctNode() {
+
+        for (int key = 0; key < 1_000; key++) {
+            ServerNode primary = ring.select(String.valueOf(key), 0, node -> true);
+            ServerNode next = ring.select(String.valueOf(key), 1, node -> true);
+            Assertions.assertNotSame(primary, next);
+            Assertions.assertSame(next, ring.select(String.valueOf(key), 0, node -> node != primary));
+        }
+    }
+
+    @Test
+    void selectReturnsNullWithoutEligibleNodes() {
+
+        Assertions.assertNull(ring.select("1", 0, node -> false));
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.ratelimit.RateLimitProperties;
+
+import java.util.List;
+
+class ReactiveProfileValidatorUnitTest {
+
+    LoadBalancerProperties loadBalancerProperties;
+    ReactiveProfileValidator reactiveProfileValidator;
+
+    @BeforeEach
+    void generator() {
+        loadBalancerProperties = new LoadBalancerProperties();
+        reactiveProfileValidator = new ReactiveProfileValidator(loadBalancerProperties, new RateLimitProperties(), new ResponseCacheProperties());
+    }
+
+    @Test
+    void afterPropertiesSetWithSingleServer() {
+        Assertions.assertDoesNotThrow(reactiveProfileValidator::afterPropertiesSet);
+    }
+
+    @Test
+    void afterPropertiesSetWithServerInstances() {
+        loadBalancerProperties.setUrls(List.of("http://server-1:9090", "http://server-2:9090"));
+
+        Assertions.assertThrows(IllegalStateException.class, reactiveProfileValidator::afterPropertiesSet);
+    }
+}
@@ -0,0 +1,108 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+class RequestCoalescerUnitTest {
+
+    static final int CALLERS = 8;
+
+    RequestCoalescer<String> requestCoalescer;
+    ExecutorService executor;
+    AtomicInteger calls;
+
+    @BeforeEach
+    void generator() {
+        requestCoalescer = new RequestCoalescer<>();
+        executor = Executors.newFixedThreadPool(CALLERS);
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void concurrentCallersShareOneCall() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = submitAll(() -> {
+            calls.incrementAndGet();
+            await(release);
+            return "items";
+        });
+
+        awaitWaiters();
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Assertions.assertEquals("items", result.get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1, calls.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersReceiveTheSameError() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException error = new IllegalStateException("server failed");
+        List<Future<String>> results = submitAll(() -> {
+            calls.incrementAndGet();
+            await(release);
+            throw error;
+        });
+
+        awaitWaiters();
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            Assertions.assertSame(error, exception.getCause());
+        }
+        Assertions.assertEquals(1, calls.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void completedCallIsNotReused() {
+
+        requestCoalescer.execute("key", () -> "first" + calls.incrementAndGet());
+        String second = requestCoalescer.execute("key", () -> "second" + calls.incrementAndGet());
+
+        Assertions.assertEquals("second2", second);
+        executor.shutdownNow();
+    }
+
+    private List<Future<String>> submitAll(Supplier<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> requestCoalescer.execute("key", call)));
+        }
+        return results;
+    }
+
+    private void awaitWaiters() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(100);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ResponseCacheUnitTest {
+
+    ResponseCache responseCache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void generator() {
+        responseCache = new ResponseCache(new ResponseCacheProperties());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getLoadsOnce() {
+
+        String key = ResponseCache.createKey(URI.create("http://server/items/1"), 1);
+
+        ResponseEntity<Object> first = responseCache.get(key, this::load);
+        ResponseEntity<Object> second = responseCache.get(key, this::load);
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    void getDoesNotCacheErrors() {
+
+        String key = ResponseCache.createKey(URI.create("http://server/items/1"), 1);
+
+        responseCache.get(key, () -> {
+            loads.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        });
+        responseCache.get(key, this::load);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictRemovesEveryQueryOfPath() {
+
+        String first = ResponseCache.createKey(URI.create("http://server/items/search?text=a"), null);
+        String second = ResponseCache.createKey(URI.create("http://server/items/search?text=b"), null);
+        String other = ResponseCache.createKey(URI.create("http://server/items/1"), 1);
+        responseCache.get(first, this::load);
+        responseCache.get(second, this::load);
+        responseCache.get(other, this::load);
+
+        responseCache.evict("/items/search");
+        responseCache.get(first, this::load);
+        responseCache.get(second, this::load);
+        responseCache.get(other, this::load);
+
+        Assertions.assertEquals(5, loads.get());
+    }
+
+    @Test
+    void evictDuringLoadDiscardsLoadedResponse() {
+
+        String key = ResponseCache.createKey(URI.create("http://server/items/1"), 1);
+
+        responseCache.get(key, () -> {
+            ResponseEntity<Object> stale = load();
+            responseCache.evict("/items/1");
+            return stale;
+        });
+        responseCache.get(key, this::load);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(false);
+        responseCache = new ResponseCache(properties);
+        String key = ResponseCache.createKey(URI.create("http://server/items/1"), 1);
+
+        responseCache.get(key, this::load);
+        responseCache.get(key, this::load);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private ResponseEntity<Object> load() {
+        return ResponseEntity.ok("response " + loads.incrementAndGet());
+    }
+}
@@ -0,0 +1,207 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ServerCallGuardUnitTest {
+
+    static final URI ITEM_URI = URI.create("http://localhost:9090/items/1");
+
+    ResilienceProperties properties;
+    ServerCallGuard serverCallGuard;
+    CountDownLatch release;
+
+    @BeforeEach
+    void generator() {
+        properties = new ResilienceProperties();
+        properties.setDefaultTimeout(Duration.ofMillis(200));
+        properties.setMaxThreads(4);
+        properties.getHedging().setMinSamples(1);
+        properties.getHedging().setMinDelay(Duration.ofMillis(20));
+        properties.getHedging().setMaxDelay(Duration.ofMillis(50));
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        release.countDown();
+        if (serverCallGuard != null) {
+            serverCallGuard.destroy();
+        }
+    }
+
+    @Test
+    void executeReturnsResponse() {
+
+        serverCallGuard = createGuard();
+
+        ResponseEntity<Object> response = serverCallGuard.execute(HttpMethod.POST, ITEM_URI, 1, uri -> ResponseEntity.ok(uri.toString()));
+
+        Assertions.assertEquals(ITEM_URI.toString(), response.getBody());
+    }
+
+    @Test
+    void executeTimesOut() {
+
+        serverCallGuard = createGuard();
+
+        ResponseStatusException exception = Assertions.assertThrows(ResponseStatusException.class,
+                () -> serverCallGuard.execute(HttpMethod.POST, ITEM_URI, 1, uri -> blocked()));
+
+        Assertions.assertEquals(HttpStatus.GATEWAY_TIMEOUT, exception.getStatus());
+    }
+
+    @Test
+    void executeUsesEndpointTimeout() {
+
+        properties.getTimeouts().put("/items/{id}", Duration.ofSeconds(2));
+        serverCallGuard = createGuard();
+
+        ResponseEntity<Object> response = serverCallGuard.execute(HttpMethod.POST, ITEM_URI, 1, uri -> {
+            sleep(300);
+            return ResponseEntity.ok("slow");
+        });
+
+        Assertions.assertEquals("slow", response.getBody());
+    }
+
+    @Test
+    void executeRejectsWhenPoolIsFull() throws Exception {
+
+        properties.setMaxThreads(1);
+        properties.setDefaultTimeout(Duration.ofSeconds(5));
+        serverCallGuard = createGuard();
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<Object>> first = CompletableFuture.supplyAsync(() ->
+                serverCallGuard.execute(HttpMethod.POST, ITEM_URI, 1, uri -> {
+                    started.countDown();
+                    return blocked();
+                }));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ResponseStatusException exception = Assertions.assertThrows(ResponseStatusException.class,
+                () -> serverCallGuard.execute(HttpMethod.POST, ITEM_URI, 1, uri -> ResponseEntity.ok("second")));
+
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        release.countDown();
+        Assertions.assertEquals("blocked", first.get(5, TimeUnit.SECONDS).getBody());
+    }
+
+    @Test
+    void executeHedgesSlowGet() {
+
+        serverCallGuard = createGuard();
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        ResponseEntity<Object> response = serverCallGuard.execute(HttpMethod.GET, ITEM_URI, 1,
+                uri -> attempts.incrementAndGet() == 1 ? blocked() : ResponseEntity.ok("hedge"));
+
+        Assertions.assertEquals("hedge", response.getBody());
+        Assertions.assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void executeDoesNotHedgeWrites() {
+
+        properties.setDefaultTimeout(Duration.ofSeconds(2));
+        serverCallGuard = createGuard();
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        serverCallGuard.execute(HttpMethod.POST, ITEM_URI, 1, uri -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return ResponseEntity.ok("slow");
+        });
+
+        Assertions.assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void firstSuccessfulIgnoresServerErrorWhileOtherAttemptRuns() throws Exception {
+
+        CompletableFuture<ResponseEntity<Object>> primary = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> hedge = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> result = ServerCallGuard.firstSuccessful(primary, hedge);
+
+        hedge.complete(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        Assertions.assertFalse(result.isDone());
+
+        primary.complete(ResponseEntity.ok("primary"));
+        Assertions.assertEquals("primary", result.get().getBody());
+    }
+
+    @Test
+    void firstSuccessfulReturnsServerErrorWhenBothFail() throws Exception {
+
+        CompletableFuture<ResponseEntity<Object>> primary = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> hedge = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> result = ServerCallGuard.firstSuccessful(primary, hedge);
+
+        primary.completeExceptionally(new IllegalStateException("connection reset"));
+        hedge.complete(ResponseEntity.status(HttpStatus.BAD_GATEWAY).build());
+
+        Assertions.assertEquals(HttpStatus.BAD_GATEWAY, result.get().getStatusCode());
+    }
+
+    @Test
+    void openCircuitRejectsCalls() {
+
+        properties.getCircuitBreaker().setMinimumCalls(2);
+        serverCallGuard = createGuard();
+        for (int i = 0; i < 2; i++) {
+            serverCallGuard.execute(HttpMethod.POST, ITEM_URI, 1, uri -> ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        }
+
+        ResponseStatusException exception = Assertions.assertThrows(ResponseStatusException.class,
+                () -> serverCallGuard.execute(HttpMethod.POST, ITEM_URI, 1, uri -> ResponseEntity.ok("ok")));
+
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, serverCallGuard.getCircuitBreaker().getState());
+    }
+
+    private ServerCallGuard createGuard() {
+        LoadBalancerProperties loadBalancerProperties = new LoadBalancerProperties();
+        loadBalancerProperties.setHealthCheckEnabled(false);
+        ServerLoadBalancer loadBalancer = new ServerLoadBalancer("http://localhost:9090", loadBalancerProperties, new RestTemplateBuilder());
+        return new ServerCallGuard(properties, loadBalancer);
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 50; i++) {
+            serverCallGuard.execute(HttpMethod.GET, ITEM_URI, 1, uri -> ResponseEntity.ok("fast"));
+        }
+    }
+
+    private ResponseEntity<Object> blocked() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return ResponseEntity.ok("blocked");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
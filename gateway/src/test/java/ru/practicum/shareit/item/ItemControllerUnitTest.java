@@ -0,0 +1,70 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+class ItemControllerUnitTest {
+
+    ItemClient itemClient;
+    ItemController itemController;
+
+    @BeforeEach
+    void generator() {
+        itemClient = Mockito.mock(ItemClient.class);
+        itemController = new ItemController(itemClient, Jackson2ObjectMapperBuilder.json().modulesToInstall(new ParameterNamesModule()).build(), Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void importItemsForwardsBody() throws Exception {
+        byte[] body = ("{\"name\":\"Дрель\",\"description\":\"Базированная дрель\",\"available\":true,\"requestId\":3}\n"
+                + "\n"
+                + "{\"name\":\"Пила\",\"description\":\"Циркулярная пила\",\"available\":true}\n").getBytes(StandardCharsets.UTF_8);
+        Mockito.when(itemClient.importItems(1, body, Set.of(3)))
+                .thenReturn(ResponseEntity.ok().build());
+
+        Assertions.assertEquals(HttpStatus.OK, itemController.importItems(1, (long) body.length, new ByteArrayInputStream(body)).getStatusCode());
+    }
+
+    @Test
+    void importItemsWithInvalidItem() {
+        byte[] body = "{\"name\":\"Дрель\",\"available\":true}\n".getBytes(StandardCharsets.UTF_8);
+
+        ResponseStatusException exception = Assertions.assertThrows(ResponseStatusException.class,
+                () -> itemController.importItems(1, (long) body.length, new ByteArrayInputStream(body)));
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        Mockito.verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void importItemsWithTooLargeContentLength() {
+        ResponseStatusException exception = Assertions.assertThrows(ResponseStatusException.class,
+                () -> itemController.importItems(1, 100L * 1024 * 1024, new ByteArrayInputStream(new byte[0])));
+
+        Assertions.assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getStatus());
+        Mockito.verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void importItemsWithTooLargeBody() {
+        byte[] body = new byte[10 * 1024 * 1024 + 1];
+
+        ResponseStatusException exception = Assertions.assertThrows(ResponseStatusException.class,
+                () -> itemController.importItems(1, null, new ByteArrayInputStream(body)));
+
+        Assertions.assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getStatus());
+        Mockito.verifyNoInteractions(itemClient);
+    }
+}
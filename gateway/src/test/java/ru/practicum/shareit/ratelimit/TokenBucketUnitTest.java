@@ -0,0 +1,65 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class TokenBucketUnitTest {
+
+    static final long NANOS_PER_TOKEN = TimeUnit.MILLISECONDS.toNanos(100);
+
+    TokenBucket tokenBucket;
+
+    @BeforeEach
+    void generator() {
+        tokenBucket = new TokenBucket(5, 10, 0);
+    }
+
+    @Test
+    void allowsBurstUpToCapacity() {
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(0, tokenBucket.tryConsume(1, 0));
+        }
+
+        Assertions.assertEquals(NANOS_PER_TOKEN, tokenBucket.tryConsume(1, 0));
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+
+        tokenBucket.tryConsume(5, 0);
+
+        Assertions.assertEquals(NANOS_PER_TOKEN / 2, tokenBucket.tryConsume(1, NANOS_PER_TOKEN / 2));
+        Assertions.assertEquals(0, tokenBucket.tryConsume(1, NANOS_PER_TOKEN));
+        Assertions.assertEquals(NANOS_PER_TOKEN, tokenBucket.tryConsume(1, NANOS_PER_TOKEN));
+    }
+
+    @Test
+    void refillDoesNotExceedCapacity() {
+
+        long later = 100 * NANOS_PER_TOKEN;
+
+        Assertions.assertEquals(0, tokenBucket.tryConsume(5, later));
+        Assertions.assertEquals(NANOS_PER_TOKEN, tokenBucket.tryConsume(1, later));
+    }
+
+    @Test
+    void rejectedRequestDoesNotConsumeTokens() {
+
+        tokenBucket.tryConsume(3, 0);
+
+        Assertions.assertEquals(NANOS_PER_TOKEN, tokenBucket.tryConsume(3, 0));
+        Assertions.assertEquals(0, tokenBucket.tryConsume(2, 0));
+    }
+
+    @Test
+    void costlierRequestWaitsLonger() {
+
+        tokenBucket.tryConsume(5, 0);
+
+        Assertions.assertEquals(3 * NANOS_PER_TOKEN, tokenBucket.tryConsume(3, 0));
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+public class AppLauncher implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final List<Process> processes = new ArrayList<>();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    public void start(LoadTestConfig config) throws IOException, InterruptedException {
+        Path logDir = Path.of(config.getOutputDir());
+        Files.createDirectories(logDir);
+
+        List<String> serverArgs = new ArrayList<>(List.of(
+                "--server.port=" + config.getServerPort(),
+                "--spring.datasource.url=" + config.getDatasourceUrl(),
+                "--spring.datasource.username=" + config.getDatasourceUsername(),
+                "--spring.datasource.password=" + config.getDatasourcePassword(),
+                "--logging.level.org.springframework.transaction.interceptor=WARN",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+                "--logging.level.org.springframework.web.servlet.DispatcherServlet=WARN"));
+        if (config.isH2()) {
+            serverArgs.add("--spring.datasource.driverClassName=org.h2.Driver");
+        }
+        startJar(config.getServerJar(), serverArgs, logDir.resolve("server.log"));
+        waitForHealth("http://localhost:" + config.getServerPort());
+
+        startJar(config.getGatewayJar(), List.of(
+                "--server.port=" + config.getGatewayPort(),
+                "--shareit-server.url=http://localhost:" + config.getServerPort(),
+                "--spring.profiles.active=" + config.getGatewayProfile(),
+                "--shareit.rate-limit.enabled=false",
+                "--logging.level.org.springframework.web.client.RestTemplate=WARN"), logDir.resolve("gateway.log"));
+        waitForHealth(config.getGatewayUrl());
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                process.waitFor();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void startJar(String jar, List<String> args, Path logFile) throws IOException {
+        if (!new File(jar).isFile()) {
+            throw new IllegalStateException("Application jar not found: " + jar + ", run mvn package first");
+        }
+        List<String> command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar", jar));
+        command.addAll(args);
+
+        log.info("Starting {}", jar);
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start());
+    }
+
+    private void waitForHealth(String baseUrl) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info("{} is up", baseUrl);
+                    return;
+                }
+            } catch (IOException exception) {
+                log.debug("{} is not up yet: {}", baseUrl, exception.getMessage());
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(baseUrl + " did not become healthy within " + STARTUP_TIMEOUT);
+    }
+}
@@ -0,0 +1,109 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class DataSeeder {
+
+    static final List<String> ITEM_WORDS = List.of("drill", "saw", "ladder", "tent", "bike", "kayak", "camera", "projector");
+
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public DataSeeder(LoadTestConfig config, HttpClient httpClient) {
+        this.config = config;
+        this.httpClient = httpClient;
+    }
+
+    public List<Integer> seed() throws IOException, InterruptedException {
+        long runId = System.currentTimeMillis();
+        LocalDateTime firstStart = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+        List<Integer> userIds = new ArrayList<>();
+        for (int i = 0; i < config.getUsers(); i++) {
+            userIds.add(post("/users", null, Map.of(
+                    "name", "user" + i,
+                    "email", "user" + i + "." + runId + "@loadtest.ru")));
+        }
+
+        int itemCount = 0;
+        int bookingCount = 0;
+        for (int ownerIndex = 0; ownerIndex < userIds.size(); ownerIndex++) {
+            int ownerId = userIds.get(ownerIndex);
+            int bookerId = userIds.get((ownerIndex + 1) % userIds.size());
+
+            for (int i = 0; i < config.getItemsPerUser(); i++) {
+                String word = ITEM_WORDS.get(itemCount++ % ITEM_WORDS.size());
+                int itemId = post("/items", ownerId, Map.of(
+                        "name", word + " " + i,
+                        "description", "Load test " + word + " of user " + ownerIndex,
+                        "available", true));
+
+                if (bookerId == ownerId) {
+                    continue;
+                }
+                for (int j = 0; j < config.getBookingsPerItem(); j++) {
+                    LocalDateTime start = firstStart.plusHours(2L * j);
+                    int bookingId = post("/bookings", bookerId, Map.of(
+                            "itemId", itemId,
+                            "start", start.toString(),
+                            "end", start.plusHours(1).toString()));
+                    if (j % 2 == 0) {
+                        send(HttpRequest.newBuilder(uri("/bookings/" + bookingId + "?approved=true"))
+                                .header(USER_HEADER, String.valueOf(ownerId))
+                                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                                .build());
+                    }
+                    bookingCount++;
+                }
+            }
+
+            for (int i = 0; i < config.getRequestsPerUser(); i++) {
+                post("/requests", ownerId, Map.of("description", "Need a " + ITEM_WORDS.get(i % ITEM_WORDS.size())));
+            }
+        }
+
+        log.info("Seeded {} users, {} items, {} bookings", userIds.size(), itemCount, bookingCount);
+        return userIds;
+    }
+
+    private int post(String path, Integer userId, Map<String, Object> body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        JsonNode response = objectMapper.readTree(send(builder.build()));
+        return response.get("id").asInt();
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private URI uri(String path) {
+        return URI.create(config.getGatewayUrl() + path);
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum Endpoint {
+    ITEMS("items", "/items?from=0&size=20"),
+    SEARCH("search", "/items/search?text=%s&from=0&size=20"),
+    BOOKINGS("bookings", "/bookings?state=ALL&from=0&size=20"),
+    OWNER("owner", "/bookings/owner?state=ALL&from=0&size=20"),
+    REQUESTS("requests", "/requests/all?from=0&size=20");
+
+    private final String shortName;
+    private final String pathTemplate;
+
+    public static Endpoint fromName(String name) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.shortName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in mix: " + name));
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@RequiredArgsConstructor
+public class LoadReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<Endpoint, Histogram> histograms;
+    private final Map<Endpoint, AtomicLong> errors;
+    private final Duration measured;
+
+    public void print(PrintStream out) {
+        double seconds = measured.toMillis() / 1000.0;
+        out.printf("%-10s %10s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+            long endpointErrors = errors.get(entry.getKey()).get();
+            printRow(out, entry.getKey().getShortName(), entry.getValue(), endpointErrors, seconds);
+            total.add(entry.getValue());
+            totalErrors += endpointErrors;
+        }
+        printRow(out, "total", total, totalErrors, seconds);
+    }
+
+    public void writeHistograms(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+            Path file = outputDir.resolve(entry.getKey().getShortName() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, double seconds) {
+        out.printf("%-10s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                errors,
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+}
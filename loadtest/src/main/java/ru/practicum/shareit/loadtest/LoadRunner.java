@@ -0,0 +1,136 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class LoadRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final List<Integer> userIds;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+
+    private volatile boolean recording;
+    private volatile boolean running;
+
+    public LoadRunner(LoadTestConfig config, HttpClient httpClient, List<Integer> userIds) {
+        this.config = config;
+        this.httpClient = httpClient;
+        this.userIds = userIds;
+
+        List<Endpoint> weighted = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Endpoint, Integer> entry : config.getMix().entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            total += entry.getValue();
+            weighted.add(entry.getKey());
+            cumulative.add(total);
+            histograms.put(entry.getKey(), new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(entry.getKey(), new AtomicLong());
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("Request mix should contain at least one endpoint with positive weight");
+        }
+        this.endpoints = weighted.toArray(new Endpoint[0]);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public LoadReport run() throws InterruptedException {
+        running = true;
+        ExecutorService executor = Executors.newFixedThreadPool(config.getThreads());
+        for (int i = 0; i < config.getThreads(); i++) {
+            executor.execute(this::loop);
+        }
+
+        log.info("Warming up for {} s", config.getWarmupSeconds());
+        Thread.sleep(TimeUnit.SECONDS.toMillis(config.getWarmupSeconds()));
+
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(counter -> counter.set(0));
+        recording = true;
+        log.info("Measuring for {} s with {} threads", config.getDurationSeconds(), config.getThreads());
+        long measureStart = System.nanoTime();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(config.getDurationSeconds()));
+        recording = false;
+        Duration measured = Duration.ofNanos(System.nanoTime() - measureStart);
+
+        running = false;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        return new LoadReport(histograms, errors, measured);
+    }
+
+    private void loop() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running) {
+            Endpoint endpoint = pickEndpoint(random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(config.getGatewayUrl() + path(endpoint, random)))
+                    .header("X-Sharer-User-Id", String.valueOf(userIds.get(random.nextInt(userIds.size()))))
+                    .GET()
+                    .build();
+
+            long start = System.nanoTime();
+            boolean failed;
+            try {
+                failed = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 != 2;
+            } catch (IOException exception) {
+                failed = true;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+            if (recording) {
+                histograms.get(endpoint).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                if (failed) {
+                    errors.get(endpoint).incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private Endpoint pickEndpoint(int roll) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private static String path(Endpoint endpoint, ThreadLocalRandom random) {
+        if (endpoint == Endpoint.SEARCH) {
+            return String.format(endpoint.getPathTemplate(),
+                    DataSeeder.ITEM_WORDS.get(random.nextInt(DataSeeder.ITEM_WORDS.size())));
+        }
+        return endpoint.getPathTemplate();
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        try (AppLauncher launcher = new AppLauncher()) {
+            if (config.isStartApps()) {
+                launcher.start(config);
+            }
+
+            List<Integer> userIds = new DataSeeder(config, httpClient).seed();
+            LoadReport report = new LoadRunner(config, httpClient, userIds).run();
+
+            report.print(System.out);
+            Path outputDir = Path.of(config.getOutputDir());
+            report.writeHistograms(outputDir);
+            log.info("Latency histograms written to {}", outputDir.toAbsolutePath());
+        }
+    }
+}
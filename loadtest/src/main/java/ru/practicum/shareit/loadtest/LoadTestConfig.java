@@ -0,0 +1,79 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+@Value
+@Builder
+public class LoadTestConfig {
+    boolean startApps;
+    String serverJar;
+    String gatewayJar;
+    String gatewayProfile;
+    int serverPort;
+    int gatewayPort;
+    String gatewayUrl;
+    String datasourceUrl;
+    String datasourceUsername;
+    String datasourcePassword;
+    int users;
+    int itemsPerUser;
+    int bookingsPerItem;
+    int requestsPerUser;
+    int threads;
+    int warmupSeconds;
+    int durationSeconds;
+    Map<Endpoint, Integer> mix;
+    String outputDir;
+
+    public static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Arguments should look like --name=value, got " + arg);
+            }
+            int separatorIndex = arg.indexOf('=');
+            values.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+        }
+
+        int gatewayPort = Integer.parseInt(values.getOrDefault("gateway-port", "8080"));
+        return LoadTestConfig.builder()
+                .startApps(Boolean.parseBoolean(values.getOrDefault("start-apps", "true")))
+                .serverJar(values.getOrDefault("server-jar", "server/target/shareit-server-0.0.1-SNAPSHOT-exec.jar"))
+                .gatewayJar(values.getOrDefault("gateway-jar", "gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar"))
+                .gatewayProfile(values.getOrDefault("gateway-profile", "default"))
+                .serverPort(Integer.parseInt(values.getOrDefault("server-port", "9090")))
+                .gatewayPort(gatewayPort)
+                .gatewayUrl(values.getOrDefault("gateway-url", "http://localhost:" + gatewayPort))
+                .datasourceUrl(values.getOrDefault("datasource-url", "jdbc:h2:mem:shareit-loadtest;DB_CLOSE_DELAY=-1"))
+                .datasourceUsername(values.getOrDefault("datasource-username", "sa"))
+                .datasourcePassword(values.getOrDefault("datasource-password", ""))
+                .users(Integer.parseInt(values.getOrDefault("users", "50")))
+                .itemsPerUser(Integer.parseInt(values.getOrDefault("items-per-user", "10")))
+                .bookingsPerItem(Integer.parseInt(values.getOrDefault("bookings-per-item", "3")))
+                .requestsPerUser(Integer.parseInt(values.getOrDefault("requests-per-user", "2")))
+                .threads(Integer.parseInt(values.getOrDefault("threads", "16")))
+                .warmupSeconds(Integer.parseInt(values.getOrDefault("warmup-seconds", "10")))
+                .durationSeconds(Integer.parseInt(values.getOrDefault("duration-seconds", "60")))
+                .mix(parseMix(values.getOrDefault("mix", "items=30,search=25,bookings=20,owner=15,requests=10")))
+                .outputDir(values.getOrDefault("output-dir", "loadtest/target/loadtest"))
+                .build();
+    }
+
+    public boolean isH2() {
+        return datasourceUrl.startsWith("jdbc:h2:");
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(Endpoint.fromName(parts[0]), Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+}
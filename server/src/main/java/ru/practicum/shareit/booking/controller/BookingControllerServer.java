@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSliceDto;
 import ru.practicum.shareit.booking.service.BookingService;
 
 import java.util.List;
@@ -58,4 +59,22 @@ public class BookingControllerServer {
         log.debug("Вызван метод getBookingsOfMyItems");
         return bookingService.getBookingsOfMyItems(state, ownerId, from, size);
     }
+
+    @GetMapping("/seek")
+    public BookingSliceDto getItemsThatIBookedByCursor(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                       @RequestParam String state,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam int size) {
+        log.debug("Вызван метод getItemsThatIBookedByCursor");
+        return bookingService.getItemsThatIBookedByCursor(state, ownerId, cursor, size);
+    }
+
+    @GetMapping("/owner/seek")
+    public BookingSliceDto getBookingsOfMyItemsByCursor(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                        @RequestParam String state,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam int size) {
+        log.debug("Вызван метод getBookingsOfMyItemsByCursor");
+        return bookingService.getBookingsOfMyItemsByCursor(state, ownerId, cursor, size);
+    }
 }
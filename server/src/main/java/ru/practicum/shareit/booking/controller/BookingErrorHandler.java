@@ -39,5 +39,16 @@ public class BookingErrorHandler {
     public BookingErrorResponse handleBookingStateException(final BookingStateException exception) {
         return new BookingErrorResponse(exception.getMessage());
     }
-}
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public BookingErrorResponse handleBookingTimeConflictException(final BookingTimeConflictException exception) {
+        return new BookingErrorResponse(exception.getMessage());
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public BookingErrorResponse handleBookingCursorException(final BookingCursorException exception) {
+        return new BookingErrorResponse(exception.getMessage());
+    }
+}
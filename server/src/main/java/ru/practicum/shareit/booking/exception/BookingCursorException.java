@@ -0,0 +1,7 @@
+package ru.practicum.shareit.booking.exception;
+
+public class BookingCursorException extends RuntimeException {
+    public BookingCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.booking.exception;
+
+public class BookingTimeConflictException extends RuntimeException {
+    public BookingTimeConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,12 +1,19 @@
 package ru.practicum.shareit.booking.mapper;
 
 import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSliceDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.ItemNearestBooking;
 import ru.practicum.shareit.booking.model.ShortBooking;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @UtilityClass
 public class BookingMapper {
     public static Booking createBooking(BookingDto bookingDto, Item item, User booker) {
@@ -37,4 +44,20 @@ public class BookingMapper {
         }
         return ShortBooking.builder().id(booking.getId()).bookerId(booking.getBooker().getId()).build();
     }
+
+    public static ShortBooking createShortBooking(ItemNearestBooking booking) {
+        return ShortBooking.builder().id(booking.getId()).bookerId(booking.getBookerId()).build();
+    }
+
+    public static BookingSliceDto createBookingSliceDto(Slice<Booking> bookings) {
+        List<Booking> content = bookings.getContent();
+        String nextCursor = bookings.hasNext() ? BookingCursor.of(content.get(content.size() - 1)).encode() : null;
+
+        return BookingSliceDto.builder()
+                .bookings(content.stream()
+                        .map(BookingMapper::createBookingDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.booking.model;
+
+public interface ItemNearestBooking {
+    int getItemId();
+
+    int getId();
+
+    int getBookerId();
+
+    boolean isLast();
+}
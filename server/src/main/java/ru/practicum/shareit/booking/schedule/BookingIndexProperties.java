@@ -0,0 +1,15 @@
+package ru.practicum.shareit.booking.schedule;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "shareit.booking-index")
+public class BookingIndexProperties {
+
+    private Duration ttl = Duration.ofSeconds(5);
+}
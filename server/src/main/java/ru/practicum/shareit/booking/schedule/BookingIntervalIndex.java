@@ -0,0 +1,230 @@
+package ru.practicum.shareit.booking.schedule;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.storage.BookingRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex {
+
+    public static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.WAITING, BookingStatus.APPROVED);
+
+    private static final long SECONDS_IN_HOUR = 3600;
+
+    private final BookingRepository bookingRepository;
+    private final BookingIndexProperties properties;
+
+    private final Map<Integer, ItemIntervals> itemIntervals = new ConcurrentHashMap<>();
+
+    public boolean isFree(int itemId, LocalDateTime start, LocalDateTime end) {
+        return isFree(itemId, start, end, null);
+    }
+
+    public boolean isFree(int itemId, LocalDateTime start, LocalDateTime end, Integer exceptBookingId) {
+        return getItemIntervals(itemId).isFree(start, end, exceptBookingId);
+    }
+
+    public BitSet getBusyHours(int itemId, LocalDateTime from, LocalDateTime to) {
+        ItemIntervals intervals = getItemIntervals(itemId);
+        long startHour = toHour(from);
+        long endHour = toHour(to);
+        long horizonHour = toHour(intervals.horizon);
+        if (startHour >= horizonHour) {
+            return intervals.getBusyHours(startHour, endHour);
+        }
+
+        long splitHour = Math.min(horizonHour, endHour);
+        BitSet busyHours = new ItemIntervals(bookingRepository.findAllIntervalsByItemIdBetween(itemId, ACTIVE_STATUSES, from, fromHour(splitHour)), 0, from)
+                .getBusyHours(startHour, splitHour);
+        BitSet recentBusyHours = intervals.getBusyHours(splitHour, endHour);
+        int shift = (int) (splitHour - startHour);
+        for (int i = recentBusyHours.nextSetBit(0); i >= 0; i = recentBusyHours.nextSetBit(i + 1)) {
+            busyHours.set(i + shift);
+        }
+        return busyHours;
+    }
+
+    public void updateBooking(Booking booking) {
+        int itemId = booking.getItem().getId();
+        ItemIntervals intervals = getItemIntervals(itemId);
+
+        if (ACTIVE_STATUSES.contains(booking.getStatus())) {
+            intervals.add(new BookingInterval(booking.getId(), booking.getStart(), booking.getEnd()));
+        } else {
+            intervals.remove(booking.getId());
+        }
+        evictOnRollback(itemId);
+    }
+
+    public void evictUser(int userId) {
+        List<Integer> itemIds = bookingRepository.findItemIdsByBookerIdOrOwnerId(userId);
+        itemIds.forEach(itemIntervals::remove);
+        evictAfterCompletion(itemIds);
+    }
+
+    private ItemIntervals getItemIntervals(int itemId) {
+        long now = System.nanoTime();
+        long ttlNanos = properties.getTtl().toNanos();
+        return itemIntervals.compute(itemId, (id, intervals) -> {
+            if (intervals != null && now - intervals.loadedAt < ttlNanos) {
+                return intervals;
+            }
+            LocalDateTime horizon = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+            return new ItemIntervals(bookingRepository.findAllIntervalsByItemId(id, ACTIVE_STATUSES, horizon), now, horizon);
+        });
+    }
+
+    private static long toHour(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_IN_HOUR);
+    }
+
+    private static LocalDateTime fromHour(long hour) {
+        return LocalDateTime.ofEpochSecond(hour * SECONDS_IN_HOUR, 0, ZoneOffset.UTC);
+    }
+
+    private static long toHourCeiling(LocalDateTime dateTime) {
+        long hour = toHour(dateTime);
+        return toHour(dateTime.minusNanos(1)) == hour ? hour + 1 : hour;
+    }
+
+    private void evictOnRollback(int itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    itemIntervals.remove(itemId);
+                }
+            }
+        });
+    }
+
+    private void evictAfterCompletion(List<Integer> itemIds) {
+        if (itemIds.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                itemIds.forEach(itemIntervals::remove);
+            }
+        });
+    }
+
+    private static class ItemIntervals {
+        private final NavigableSet<BookingInterval> byStart = new TreeSet<>(Comparator.comparing(BookingInterval::getStart)
+                .thenComparingInt(BookingInterval::getId));
+        private final Map<Integer, BookingInterval> byId = new HashMap<>();
+        private final long loadedAt;
+        private final LocalDateTime horizon;
+        private Duration longest = Duration.ZERO;
+        private BitSet busyHours = new BitSet();
+        private long firstHour = Long.MAX_VALUE;
+
+        ItemIntervals(List<BookingInterval> intervals, long loadedAt, LocalDateTime horizon) {
+            this.loadedAt = loadedAt;
+            this.horizon = horizon;
+            intervals.forEach(this::add);
+        }
+
+        synchronized boolean isFree(LocalDateTime start, LocalDateTime end, Integer exceptBookingId) {
+            return findOverlapping(start, end).stream()
+                    .allMatch(interval -> Objects.equals(interval.getId(), exceptBookingId));
+        }
+
+        synchronized BitSet getBusyHours(long startHour, long endHour) {
+            BitSet result = new BitSet();
+            long from = Math.max(startHour, firstHour);
+            if (from >= endHour) {
+                return result;
+            }
+            BitSet busy = busyHours.get((int) (from - firstHour), (int) (endHour - firstHour));
+            int shift = (int) (from - startHour);
+            for (int i = busy.nextSetBit(0); i >= 0; i = busy.nextSetBit(i + 1)) {
+                result.set(i + shift);
+            }
+            return result;
+        }
+
+        synchronized void add(BookingInterval interval) {
+            remove(interval.getId());
+            byStart.add(interval);
+            byId.put(interval.getId(), interval);
+
+            Duration duration = Duration.between(interval.getStart(), interval.getEnd());
+            if (duration.compareTo(longest) > 0) {
+                longest = duration;
+            }
+            markBusy(interval);
+        }
+
+        synchronized void remove(int bookingId) {
+            BookingInterval interval = byId.remove(bookingId);
+            if (interval == null) {
+                return;
+            }
+            byStart.remove(interval);
+
+            long startHour = toHour(interval.getStart());
+            long endHour = toHourCeiling(interval.getEnd());
+            busyHours.clear((int) (startHour - firstHour), (int) (endHour - firstHour));
+            findOverlapping(fromHour(startHour), fromHour(endHour)).forEach(this::markBusy);
+        }
+
+        private List<BookingInterval> findOverlapping(LocalDateTime start, LocalDateTime end) {
+            List<BookingInterval> overlapping = new ArrayList<>();
+            LocalDateTime earliestOverlappingStart = start.minus(longest);
+            Iterator<BookingInterval> iterator = byStart.headSet(new BookingInterval(Integer.MIN_VALUE, end, end), false)
+                    .descendingIterator();
+
+            while (iterator.hasNext()) {
+                BookingInterval interval = iterator.next();
+                if (!interval.getStart().isAfter(earliestOverlappingStart)) {
+                    break;
+                }
+                if (interval.getEnd().isAfter(start)) {
+                    overlapping.add(interval);
+                }
+            }
+            return overlapping;
+        }
+
+        private void markBusy(BookingInterval interval) {
+            long startHour = toHour(interval.getStart());
+            long endHour = toHourCeiling(interval.getEnd());
+            if (startHour < firstHour) {
+                rebase(startHour);
+            }
+            busyHours.set((int) (startHour - firstHour), (int) (endHour - firstHour));
+        }
+
+        private void rebase(long newFirstHour) {
+            if (firstHour == Long.MAX_VALUE) {
+                firstHour = newFirstHour;
+                return;
+            }
+            int shift = (int) (firstHour - newFirstHour);
+            BitSet shifted = new BitSet(busyHours.length() + shift);
+            for (int i = busyHours.nextSetBit(0); i >= 0; i = busyHours.nextSetBit(i + 1)) {
+                shifted.set(i + shift);
+            }
+            busyHours = shifted;
+            firstHour = newFirstHour;
+        }
+    }
+}
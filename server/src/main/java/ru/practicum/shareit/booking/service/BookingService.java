@@ -1,6 +1,7 @@
 package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSliceDto;
 
 import java.util.List;
 
@@ -14,4 +15,8 @@ public interface BookingService {
     List<BookingDto> getItemsThatIBooked(String state, int ownerId, int from, int size);
 
     List<BookingDto> getBookingsOfMyItems(String state, int ownerId, int from, int size);
+
+    BookingSliceDto getItemsThatIBookedByCursor(String state, int ownerId, String cursor, int size);
+
+    BookingSliceDto getBookingsOfMyItemsByCursor(String state, int ownerId, String cursor, int size);
 }
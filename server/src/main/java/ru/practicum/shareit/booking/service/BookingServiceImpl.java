@@ -1,17 +1,24 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSliceDto;
 import ru.practicum.shareit.booking.exception.*;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.schedule.BookingIntervalIndex;
 import ru.practicum.shareit.booking.storage.BookingRepository;
+import ru.practicum.shareit.cache.OwnerCache;
 import ru.practicum.shareit.item.exception.ItemNotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.storage.ItemRepository;
@@ -19,16 +26,24 @@ import ru.practicum.shareit.user.exception.UserNotFoundException;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserRepository;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final String OVERLAP_CONSTRAINT = "BOOKING_NO_OVERLAP";
+    private static final String EXCLUSION_VIOLATION_STATE = "23P01";
+    private static final Set<String> CACHEABLE_STATES = Set.of("ALL", "WAITING", "REJECTED");
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final OwnerCache ownerCache;
 
     @Transactional(propagation = Propagation.REQUIRED)
     @Override
@@ -47,9 +62,26 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingIdException("Item not available for booking due to you can't book your own item");
         }
 
+        if (!bookingIntervalIndex.isFree(itemFromDb.getId(), bookingDto.getStart(), bookingDto.getEnd())) {
+            throw new BookingTimeConflictException("Item is already booked for this time");
+        }
+
         Booking booking = BookingMapper.createBooking(bookingDto, itemFromDb, userFromDb);
         booking.setStatus(BookingStatus.WAITING);
-        return BookingMapper.createBookingDto(bookingRepository.save(booking));
+
+        Booking bookingFromDb;
+        try {
+            bookingFromDb = bookingRepository.save(booking);
+        } catch (DataIntegrityViolationException exception) {
+            if (isOverlapViolation(exception)) {
+                throw new BookingTimeConflictException("Item is already booked for this time");
+            }
+            throw exception;
+        }
+
+        bookingIntervalIndex.updateBooking(bookingFromDb);
+        ownerCache.evict(itemFromDb.getOwner().getId());
+        return BookingMapper.createBookingDto(bookingFromDb);
     }
 
     @Transactional(propagation = Propagation.REQUIRED)
@@ -66,9 +98,18 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingStatusException("You already approved booking");
         }
 
+        if (approved && !BookingIntervalIndex.ACTIVE_STATUSES.contains(bookingFromDb.getStatus())
+                && !bookingIntervalIndex.isFree(bookingFromDb.getItem().getId(), bookingFromDb.getStart(), bookingFromDb.getEnd(), bookingFromDb.getId())) {
+            throw new BookingTimeConflictException("Item is already booked for this time");
+        }
+
         bookingFromDb.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
 
-        return BookingMapper.createBookingDto(bookingRepository.save(bookingFromDb));
+        Booking bookingPatched = bookingRepository.save(bookingFromDb);
+        bookingIntervalIndex.updateBooking(bookingPatched);
+        ownerCache.evict(ownerId);
+
+        return BookingMapper.createBookingDto(bookingPatched);
     }
 
     @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
@@ -85,7 +126,7 @@ public class BookingServiceImpl implements BookingService {
     public List<BookingDto> getItemsThatIBooked(String state, int ownerId, int from, int size) {
 
         LocalDateTime localDateTimeNow = LocalDateTime.now();
-        Page<Booking> bookingList;
+        Slice<Booking> bookingList;
 
         userRepository.findUserById(ownerId).orElseThrow(() -> new UserNotFoundException("User not found"));
 
@@ -120,8 +161,15 @@ public class BookingServiceImpl implements BookingService {
     @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
     @Override
     public List<BookingDto> getBookingsOfMyItems(String state, int ownerId, int from, int size) {
+        if (!CACHEABLE_STATES.contains(state)) {
+            return findBookingsOfMyItems(state, ownerId, from, size);
+        }
+        return ownerCache.get(ownerId, "bookings:" + state + ":" + from + ":" + size, () -> findBookingsOfMyItems(state, ownerId, from, size));
+    }
+
+    private List<BookingDto> findBookingsOfMyItems(String state, int ownerId, int from, int size) {
         LocalDateTime localDateTimeNow = LocalDateTime.now();
-        Page<Booking> bookingList;
+        Slice<Booking> bookingList;
 
         userRepository.findUserById(ownerId).orElseThrow(() -> new UserNotFoundException("User not found"));
 
@@ -152,4 +200,56 @@ public class BookingServiceImpl implements BookingService {
         return bookingList.map(BookingMapper::createBookingDto).getContent();
 
     }
+
+    @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+    @Override
+    public BookingSliceDto getItemsThatIBookedByCursor(String state, int ownerId, String cursor, int size) {
+
+        BookingState bookingState = parseState(state);
+        BookingCursor bookingCursor = cursor == null ? null : BookingCursor.decode(cursor);
+
+        userRepository.findUserById(ownerId).orElseThrow(() -> new UserNotFoundException("User not found"));
+
+        return BookingMapper.createBookingSliceDto(bookingRepository.findAllByBookerIdAfterCursor(ownerId, bookingState, LocalDateTime.now(), bookingCursor, size));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+    @Override
+    public BookingSliceDto getBookingsOfMyItemsByCursor(String state, int ownerId, String cursor, int size) {
+        if (!CACHEABLE_STATES.contains(state)) {
+            return findBookingsOfMyItemsByCursor(state, ownerId, cursor, size);
+        }
+        return ownerCache.get(ownerId, "bookings-cursor:" + state + ":" + cursor + ":" + size, () -> findBookingsOfMyItemsByCursor(state, ownerId, cursor, size));
+    }
+
+    private BookingSliceDto findBookingsOfMyItemsByCursor(String state, int ownerId, String cursor, int size) {
+
+        BookingState bookingState = parseState(state);
+        BookingCursor bookingCursor = cursor == null ? null : BookingCursor.decode(cursor);
+
+        userRepository.findUserById(ownerId).orElseThrow(() -> new UserNotFoundException("User not found"));
+
+        return BookingMapper.createBookingSliceDto(bookingRepository.findAllByItemOwnerIdAfterCursor(ownerId, bookingState, LocalDateTime.now(), bookingCursor, size));
+    }
+
+    private BookingState parseState(String state) {
+        try {
+            return BookingState.valueOf(state);
+        } catch (IllegalArgumentException exception) {
+            throw new BookingStateException("Unknown state: UNSUPPORTED_STATUS");
+        }
+    }
+
+    private static boolean isOverlapViolation(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException
+                    && OVERLAP_CONSTRAINT.equalsIgnoreCase(((ConstraintViolationException) cause).getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof SQLException && EXCLUSION_VIOLATION_STATE.equals(((SQLException) cause).getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -1,42 +1,125 @@
 package ru.practicum.shareit.booking.storage;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemNearestBooking;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Integer> {
+public interface BookingRepository extends JpaRepository<Booking, Integer>, BookingSeekRepository {
     Optional<Booking> findBookingById(Integer id);
 
     Optional<Booking> findByBookerIdAndIdOrItem_OwnerIdAndId(Integer bookerId, Integer id, Integer ownerId, Integer sameId);
 
-    Page<Booking> findAllByBookerIdOrderByStartDesc(Integer bookerId, Pageable pageable);
-
-    Page<Booking> findAllByStartBeforeAndEndAfterAndBookerId(LocalDateTime localDateTime, LocalDateTime sameLocalDateTime, Integer bookerId, Pageable pageable);
-
-    Page<Booking> findAllByEndIsBeforeAndBookerIdOrderByStartDesc(LocalDateTime localDateTime, Integer bookerId, Pageable pageable);
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where b.booker.id = ?1 " +
+            "order by b.start desc ")
+    Slice<Booking> findAllByBookerIdOrderByStartDesc(Integer bookerId, Pageable pageable);
 
-    Page<Booking> findAllByStartIsAfterAndBookerIdOrderByStartDesc(LocalDateTime localDateTime, Integer bookerId, Pageable pageable);
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where b.booker.id = ?3 " +
+            "and b.start < ?1 " +
+            "and b.end > ?2 " +
+            "order by b.id ")
+    Slice<Booking> findAllByStartBeforeAndEndAfterAndBookerId(LocalDateTime localDateTime, LocalDateTime sameLocalDateTime, Integer bookerId, Pageable pageable);
+
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where b.booker.id = ?2 " +
+            "and b.end < ?1 " +
+            "order by b.start desc ")
+    Slice<Booking> findAllByEndIsBeforeAndBookerIdOrderByStartDesc(LocalDateTime localDateTime, Integer bookerId, Pageable pageable);
 
-    Page<Booking> findAllByStatusAndBookerIdOrderByStartDesc(BookingStatus status, Integer bookerId, Pageable pageable);
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where b.booker.id = ?2 " +
+            "and b.start > ?1 " +
+            "order by b.start desc ")
+    Slice<Booking> findAllByStartIsAfterAndBookerIdOrderByStartDesc(LocalDateTime localDateTime, Integer bookerId, Pageable pageable);
 
-    Page<Booking> findAllByItem_OwnerIdOrderByStartDesc(Integer ownerId, Pageable pageable);
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where b.booker.id = ?2 " +
+            "and b.status = ?1 " +
+            "order by b.start desc ")
+    Slice<Booking> findAllByStatusAndBookerIdOrderByStartDesc(BookingStatus status, Integer bookerId, Pageable pageable);
 
-    Page<Booking> findAllByStartBeforeAndEndAfterAndItem_OwnerId(LocalDateTime localDateTime, LocalDateTime sameLocalDateTime, Integer ownerId, Pageable pageable);
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where i.owner.id = ?1 " +
+            "order by b.start desc ")
+    Slice<Booking> findAllByItem_OwnerIdOrderByStartDesc(Integer ownerId, Pageable pageable);
 
-    Page<Booking> findAllByEndIsBeforeAndItem_OwnerIdOrderByStartDesc(LocalDateTime localDateTime, Integer ownerId, Pageable pageable);
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where i.owner.id = ?3 " +
+            "and b.start < ?1 " +
+            "and b.end > ?2 " +
+            "order by b.id ")
+    Slice<Booking> findAllByStartBeforeAndEndAfterAndItem_OwnerId(LocalDateTime localDateTime, LocalDateTime sameLocalDateTime, Integer ownerId, Pageable pageable);
+
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where i.owner.id = ?2 " +
+            "and b.end < ?1 " +
+            "order by b.start desc ")
+    Slice<Booking> findAllByEndIsBeforeAndItem_OwnerIdOrderByStartDesc(LocalDateTime localDateTime, Integer ownerId, Pageable pageable);
 
-    Page<Booking> findAllByStartIsAfterAndItem_OwnerIdOrderByStartDesc(LocalDateTime localDateTime, Integer ownerId, Pageable pageable);
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where i.owner.id = ?2 " +
+            "and b.start > ?1 " +
+            "order by b.start desc ")
+    Slice<Booking> findAllByStartIsAfterAndItem_OwnerIdOrderByStartDesc(LocalDateTime localDateTime, Integer ownerId, Pageable pageable);
 
-    Page<Booking> findAllByStatusAndItem_OwnerIdOrderByStartDesc(BookingStatus status, Integer ownerId, Pageable pageable);
+    @Query("select b " +
+            "from Booking b " +
+            "join fetch b.item i " +
+            "join fetch i.owner " +
+            "join fetch b.booker " +
+            "where i.owner.id = ?2 " +
+            "and b.status = ?1 " +
+            "order by b.start desc ")
+    Slice<Booking> findAllByStatusAndItem_OwnerIdOrderByStartDesc(BookingStatus status, Integer ownerId, Pageable pageable);
 
     Optional<Booking> findFirstBookingByItem_IdAndStatusNotAndStartAfterOrderByStart(Integer itemId, BookingStatus status, LocalDateTime currentTime);
 
@@ -60,5 +143,37 @@ public interface BookingRepository extends JpaRepository<Booking, Integer> {
             "order by b.start ")
     List<Booking> findNextByItem_OwnerId(Integer itemId, Integer ownerId, BookingStatus status);
 
+    @Query(value = "select w.item_id as \"itemId\", w.id as \"id\", w.booker_id as \"bookerId\", w.is_last as \"last\" " +
+            "from (select b.item_id, b.id, b.booker_id, b.start_date < ?3 as is_last, " +
+            "row_number() over (partition by b.item_id, b.start_date < ?3 " +
+            "order by case when b.start_date < ?3 then b.start_date end desc, b.start_date) as rn " +
+            "from booking b " +
+            "where b.item_id in (?1) " +
+            "and b.status <> ?2 " +
+            "and b.start_date <> ?3) as w " +
+            "where w.rn = 1 ", nativeQuery = true)
+    List<ItemNearestBooking> findLastAndNextByItemIdIn(Collection<Integer> itemIds, String status, LocalDateTime currentTime);
+
+    @Query("select new ru.practicum.shareit.booking.model.BookingInterval(b.id, b.start, b.end) " +
+            "from Booking b " +
+            "where b.item.id = ?1 " +
+            "and b.status in ?2 " +
+            "and b.end > ?3 ")
+    List<BookingInterval> findAllIntervalsByItemId(Integer itemId, Collection<BookingStatus> statuses, LocalDateTime currentTime);
+
+    @Query("select new ru.practicum.shareit.booking.model.BookingInterval(b.id, b.start, b.end) " +
+            "from Booking b " +
+            "where b.item.id = ?1 " +
+            "and b.status in ?2 " +
+            "and b.end > ?3 " +
+            "and b.start < ?4 ")
+    List<BookingInterval> findAllIntervalsByItemIdBetween(Integer itemId, Collection<BookingStatus> statuses, LocalDateTime from, LocalDateTime to);
+
+    @Query("select distinct b.item.id " +
+            "from Booking b " +
+            "where b.booker.id = ?1 " +
+            "or b.item.owner.id = ?1 ")
+    List<Integer> findItemIdsByBookerIdOrOwnerId(Integer userId);
+
     Optional<Booking> findFirstByBookerIdAndEndBefore(Integer bookerId, LocalDateTime currentTime);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.booking.storage;
+
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingState;
+
+import java.time.LocalDateTime;
+
+public interface BookingSeekRepository {
+    Slice<Booking> findAllByBookerIdAfterCursor(Integer bookerId, BookingState state, LocalDateTime currentTime, BookingCursor cursor, int size);
+
+    Slice<Booking> findAllByItemOwnerIdAfterCursor(Integer ownerId, BookingState state, LocalDateTime currentTime, BookingCursor cursor, int size);
+}
@@ -0,0 +1,91 @@
+package ru.practicum.shareit.booking.storage;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BookingSeekRepositoryImpl implements BookingSeekRepository {
+
+    private static final int MAX_SIZE = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Booking> findAllByBookerIdAfterCursor(Integer bookerId, BookingState state, LocalDateTime currentTime, BookingCursor cursor, int size) {
+        return findAllAfterCursor("b.booker.id = :userId ", bookerId, state, currentTime, cursor, size);
+    }
+
+    @Override
+    public Slice<Booking> findAllByItemOwnerIdAfterCursor(Integer ownerId, BookingState state, LocalDateTime currentTime, BookingCursor cursor, int size) {
+        return findAllAfterCursor("i.owner.id = :userId ", ownerId, state, currentTime, cursor, size);
+    }
+
+    private Slice<Booking> findAllAfterCursor(String userCondition, Integer userId, BookingState state, LocalDateTime currentTime, BookingCursor cursor, int size) {
+        StringBuilder jpql = new StringBuilder("select b " +
+                "from Booking b " +
+                "join fetch b.item i " +
+                "join fetch i.owner " +
+                "join fetch b.booker " +
+                "where ")
+                .append(userCondition);
+
+        switch (state) {
+            case CURRENT:
+                jpql.append("and b.start < :currentTime and b.end > :currentTime ");
+                break;
+            case PAST:
+                jpql.append("and b.end < :currentTime ");
+                break;
+            case FUTURE:
+                jpql.append("and b.start > :currentTime ");
+                break;
+            case WAITING:
+            case REJECTED:
+                jpql.append("and b.status = :status ");
+                break;
+            default:
+                break;
+        }
+        if (cursor != null) {
+            jpql.append("and (b.start < :cursorStart or (b.start = :cursorStart and b.id < :cursorId)) ");
+        }
+        jpql.append("order by b.start desc, b.id desc ");
+
+        TypedQuery<Booking> query = entityManager.createQuery(jpql.toString(), Booking.class)
+                .setParameter("userId", userId);
+        switch (state) {
+            case CURRENT:
+            case PAST:
+            case FUTURE:
+                query.setParameter("currentTime", currentTime);
+                break;
+            case WAITING:
+            case REJECTED:
+                query.setParameter("status", BookingStatus.valueOf(state.name()));
+                break;
+            default:
+                break;
+        }
+        if (cursor != null) {
+            query.setParameter("cursorStart", cursor.getStart())
+                    .setParameter("cursorId", cursor.getId());
+        }
+
+        int limit = Math.min(size, MAX_SIZE);
+        List<Booking> bookings = query.setMaxResults(limit + 1).getResultList();
+        boolean hasNext = bookings.size() > limit;
+
+        return new SliceImpl<>(hasNext ? bookings.subList(0, limit) : bookings, PageRequest.of(0, limit), hasNext);
+    }
+}
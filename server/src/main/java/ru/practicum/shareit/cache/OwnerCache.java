@@ -0,0 +1,84 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class OwnerCache implements MeterBinder {
+
+    private static final String SEPARATOR = ":";
+
+    private final boolean enabled;
+    private final Cache<String, Object> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public OwnerCache(OwnerCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(int ownerId, String key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String cacheKey = ownerId + SEPARATOR + key;
+        Object cached = cache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+        T value = loader.get();
+        if (evictions.get() == evictionsBeforeLoad) {
+            cache.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    public void evict(int ownerId) {
+        if (enabled) {
+            String prefix = ownerId + SEPARATOR;
+            runNowAndAfterCompletion(() -> cache.asMap().keySet().removeIf(key -> key.startsWith(prefix)));
+        }
+    }
+
+    public void clear() {
+        if (enabled) {
+            runNowAndAfterCompletion(cache::invalidateAll);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "owner-cache");
+    }
+
+    private void runNowAndAfterCompletion(Runnable eviction) {
+        evictions.incrementAndGet();
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictions.incrementAndGet();
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "shareit.owner-cache")
+public class OwnerCacheProperties {
+
+    private boolean enabled = false;
+    private Duration ttl = Duration.ofSeconds(5);
+    private long maxSize = 10_000;
+}
@@ -1,14 +1,24 @@
 package ru.practicum.shareit.item.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.dto.ItemIdsDto;
+import ru.practicum.shareit.item.dto.ItemImportDto;
 import ru.practicum.shareit.item.service.ItemService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -19,6 +29,7 @@ import java.util.List;
 public class ItemControllerServer {
 
     private final ItemService itemService;
+    private final ObjectMapper objectMapper;
     private static final String OWNER_HEADER = "X-Sharer-User-Id";
 
     @PostMapping
@@ -28,6 +39,15 @@ public class ItemControllerServer {
         return itemService.postItem(ownerId, itemDto);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ItemImportDto importItems(@RequestHeader(OWNER_HEADER) int ownerId,
+                                     InputStream body) throws IOException {
+        log.debug("Вызван метод importItems");
+        try (MappingIterator<ItemDto> itemDtos = objectMapper.readerFor(ItemDto.class).readValues(body)) {
+            return itemService.importItems(ownerId, itemDtos);
+        }
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto patchItem(@PathVariable int itemId, @RequestHeader(OWNER_HEADER) int ownerId,
                              @RequestBody ItemDto itemDto) {
@@ -56,6 +76,13 @@ public class ItemControllerServer {
         return itemService.getAllItems(ownerId, from, size);
     }
 
+    @PostMapping("/batch-get")
+    public List<ItemDtoWithBooking> getItemsByIds(@RequestHeader(OWNER_HEADER) int ownerId,
+                                                  @RequestBody ItemIdsDto itemIdsDto) {
+        log.debug("Вызван метод getItemsByIds");
+        return itemService.getItemsByIds(ownerId, itemIdsDto.getIds());
+    }
+
     @GetMapping("/search")
     public List<ItemDto> getSearchedItems(@RequestParam String text,
                                           @RequestParam int from,
@@ -71,4 +98,12 @@ public class ItemControllerServer {
         log.debug("Вызван метод postComment");
         return itemService.postComment(ownerId, itemId, commentDto);
     }
+
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityDto getItemAvailability(@PathVariable int itemId,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.debug("Вызван метод getItemAvailability");
+        return itemService.getItemAvailability(itemId, from, to);
+    }
 }
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class AvailabilitySlotDto {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final boolean free;
+}
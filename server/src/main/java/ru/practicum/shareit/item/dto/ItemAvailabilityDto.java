@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ItemAvailabilityDto {
+    private final int itemId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final List<AvailabilitySlotDto> slots;
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor(force = true)
+@RequiredArgsConstructor
+public class ItemIdsDto {
+    private final List<Integer> ids;
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class ItemImportDto {
+    private final int imported;
+    private final List<Integer> ids;
+}
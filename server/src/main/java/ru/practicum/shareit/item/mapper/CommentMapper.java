@@ -6,6 +6,11 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @UtilityClass
 public class CommentMapper {
     public static Comment createComment(CommentDto commentDto, User author, Item item) {
@@ -25,4 +30,10 @@ public class CommentMapper {
                 .created(comment.getCreated())
                 .build();
     }
+
+    public static Map<Integer, List<CommentDto>> createCommentDtosByItemId(Collection<Comment> comments) {
+        return comments.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(CommentMapper::createCommentDto, Collectors.toList())));
+    }
 }
@@ -2,15 +2,24 @@ package ru.practicum.shareit.item.mapper;
 
 import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.booking.model.ShortBooking;
+import ru.practicum.shareit.item.dto.AvailabilitySlotDto;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
 import ru.practicum.shareit.item.dto.ItemForRequestDto;
+import ru.practicum.shareit.item.dto.ItemImportDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.model.ItemForRequest;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @UtilityClass
 public class ItemMapper {
@@ -34,6 +43,19 @@ public class ItemMapper {
                 .build();
     }
 
+    public static ItemDtoWithBooking createItemDtoWithBooking(ItemDtoWithBooking itemDto, ShortBooking lastBooking, ShortBooking nextBooking) {
+        return ItemDtoWithBooking.builder()
+                .id(itemDto.getId())
+                .name(itemDto.getName())
+                .description(itemDto.getDescription())
+                .available(itemDto.getAvailable())
+                .ownerId(itemDto.getOwnerId())
+                .lastBooking(lastBooking)
+                .nextBooking(nextBooking)
+                .comments(itemDto.getComments())
+                .build();
+    }
+
     public static ItemDto createItemDtoWithoutComments(Item item) {
         return ItemDto.builder()
                 .id(item.getId())
@@ -55,10 +77,23 @@ public class ItemMapper {
                 .build();
     }
 
+    public static ItemImportDto createItemImportDto(List<Integer> ids) {
+        return ItemImportDto.builder()
+                .imported(ids.size())
+                .ids(ids)
+                .build();
+    }
+
     public static ItemForRequestDto createItemForRequestDto(ItemForRequest itemForRequest) {
         return ItemForRequestDto.builder().id(itemForRequest.getId()).name(itemForRequest.getName()).description(itemForRequest.getDescription()).available(itemForRequest.isAvailable()).requestId(itemForRequest.getRequestId()).build();
     }
 
+    public static Map<Integer, List<ItemForRequestDto>> createItemForRequestDtosByRequestId(Collection<ItemForRequest> itemsForRequest) {
+        return itemsForRequest.stream()
+                .collect(Collectors.groupingBy(ItemForRequest::getRequestId,
+                        Collectors.mapping(ItemMapper::createItemForRequestDto, Collectors.toList())));
+    }
+
     public static ItemDtoWithBooking createItemDtoWithBooking(Item item, ShortBooking lastBooking, ShortBooking nextBooking, List<CommentDto> comments) {
         return ItemDtoWithBooking.builder()
                 .id(item.getId())
@@ -72,4 +107,29 @@ public class ItemMapper {
                 .build();
     }
 
+    public static ItemAvailabilityDto createItemAvailabilityDto(int itemId, LocalDateTime from, LocalDateTime to, BitSet busyHours) {
+        List<AvailabilitySlotDto> slots = new ArrayList<>();
+        LocalDateTime slotStart = from;
+        int hour = 0;
+
+        while (slotStart.isBefore(to)) {
+            boolean busy = busyHours.get(hour);
+            int nextHour = busy ? busyHours.nextClearBit(hour) : busyHours.nextSetBit(hour);
+            LocalDateTime slotEnd = nextHour < 0 ? to : from.plusHours(nextHour);
+            if (slotEnd.isAfter(to)) {
+                slotEnd = to;
+            }
+
+            slots.add(new AvailabilitySlotDto(slotStart, slotEnd, !busy));
+            slotStart = slotEnd;
+            hour = nextHour;
+        }
+
+        return ItemAvailabilityDto.builder()
+                .itemId(itemId)
+                .from(from)
+                .to(to)
+                .slots(slots)
+                .build();
+    }
 }
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+public interface ItemSearchEngine {
+    void indexItem(Item item);
+
+    void removeItem(int itemId);
+
+    List<Integer> searchItemIds(String text, int from, int size);
+}
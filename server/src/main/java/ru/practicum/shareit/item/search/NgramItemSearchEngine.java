@@ -0,0 +1,283 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.ItemRepository;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "ngram", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class NgramItemSearchEngine implements ItemSearchEngine, SmartInitializingSingleton, DisposableBean {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final int NAME_MATCH_RANK = 2;
+    private static final int DESCRIPTION_MATCH_RANK = 1;
+
+    private final ItemRepository itemRepository;
+    private final SearchProperties properties;
+
+    private final Map<Integer, IndexedItem> items = new HashMap<>();
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Integer, IndexedItem> writesDuringLoad;
+    private ScheduledExecutorService refresher;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        loadItems();
+    }
+
+    public synchronized void loadItems() {
+        lock.writeLock().lock();
+        try {
+            writesDuringLoad = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Item> availableItems = null;
+        try {
+            availableItems = itemRepository.findAllByAvailableTrue();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                Map<Integer, IndexedItem> replayedWrites = writesDuringLoad;
+                writesDuringLoad = null;
+                if (availableItems != null) {
+                    items.clear();
+                    postings.clear();
+                    availableItems.forEach(item -> index(createIndexedItem(item)));
+                    replayedWrites.forEach(this::replace);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.debug("Search index loaded with {} items", availableItems.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleRefresh() {
+        long interval = properties.getRefreshInterval().toMillis();
+        if (interval <= 0) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("shareit-search-refresh-"));
+        refresher.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    @Override
+    public void indexItem(Item item) {
+        write(item.getId(), Boolean.TRUE.equals(item.getAvailable()) ? createIndexedItem(item) : null);
+    }
+
+    @Override
+    public void removeItem(int itemId) {
+        write(itemId, null);
+    }
+
+    @Override
+    public List<Integer> searchItemIds(String text, int from, int size) {
+        String query = normalize(text);
+        Map<Integer, IndexedItem> pendingWrites = currentPendingWrites();
+
+        lock.readLock().lock();
+        try {
+            return Stream.concat(findCandidates(query).stream()
+                                    .filter(itemId -> !pendingWrites.containsKey(itemId))
+                                    .map(items::get),
+                            pendingWrites.values().stream().filter(Objects::nonNull))
+                    .filter(indexedItem -> indexedItem.rank(query) > 0)
+                    .sorted(Comparator.comparingInt((IndexedItem indexedItem) -> indexedItem.rank(query)).reversed()
+                            .thenComparingInt(IndexedItem::getId))
+                    .skip(from)
+                    .limit(size)
+                    .map(IndexedItem::getId)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void refresh() {
+        try {
+            loadItems();
+        } catch (RuntimeException e) {
+            log.warn("Search index refresh failed", e);
+        }
+    }
+
+    private Collection<Integer> findCandidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return postings.getOrDefault(query, Collections.emptySet());
+        }
+
+        List<Set<Integer>> queryPostings = new ArrayList<>();
+        for (String gram : grams(query, GRAM_LENGTH)) {
+            Set<Integer> itemIds = postings.get(gram);
+            if (itemIds == null) {
+                return Collections.emptyList();
+            }
+            queryPostings.add(itemIds);
+        }
+        queryPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Integer> candidates = new HashSet<>(queryPostings.get(0));
+        for (int i = 1; i < queryPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(queryPostings.get(i));
+        }
+        return candidates;
+    }
+
+    private void write(int itemId, IndexedItem indexedItem) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingWrites().put(itemId, indexedItem);
+        } else {
+            apply(Collections.singletonMap(itemId, indexedItem));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Integer, IndexedItem> currentPendingWrites() {
+        Map<Integer, IndexedItem> pendingWrites = TransactionSynchronizationManager.isSynchronizationActive()
+                ? (Map<Integer, IndexedItem>) TransactionSynchronizationManager.getResource(this)
+                : null;
+        return pendingWrites != null ? pendingWrites : Collections.emptyMap();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Integer, IndexedItem> pendingWrites() {
+        Map<Integer, IndexedItem> pendingWrites = (Map<Integer, IndexedItem>) TransactionSynchronizationManager.getResource(this);
+        if (pendingWrites != null) {
+            return pendingWrites;
+        }
+
+        Map<Integer, IndexedItem> transactionWrites = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, transactionWrites);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(transactionWrites);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(NgramItemSearchEngine.this);
+            }
+        });
+        return transactionWrites;
+    }
+
+    private void apply(Map<Integer, IndexedItem> writes) {
+        lock.writeLock().lock();
+        try {
+            writes.forEach(this::replace);
+            if (writesDuringLoad != null) {
+                writesDuringLoad.putAll(writes);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replace(int itemId, IndexedItem indexedItem) {
+        unindex(itemId);
+        if (indexedItem != null) {
+            index(indexedItem);
+        }
+    }
+
+    private void index(IndexedItem indexedItem) {
+        items.put(indexedItem.getId(), indexedItem);
+        for (String gram : indexedItem.allGrams()) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(indexedItem.getId());
+        }
+    }
+
+    private void unindex(int itemId) {
+        IndexedItem indexedItem = items.remove(itemId);
+        if (indexedItem == null) {
+            return;
+        }
+        for (String gram : indexedItem.allGrams()) {
+            Set<Integer> itemIds = postings.get(gram);
+            if (itemIds != null) {
+                itemIds.remove(itemId);
+                if (itemIds.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static IndexedItem createIndexedItem(Item item) {
+        return new IndexedItem(item.getId(), normalize(item.getName()), normalize(item.getDescription()));
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String text, int length) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + length <= text.length(); i++) {
+            grams.add(text.substring(i, i + length));
+        }
+        return grams;
+    }
+
+    @Value
+    private static class IndexedItem {
+        int id;
+        String name;
+        String description;
+
+        Set<String> allGrams() {
+            Set<String> grams = new HashSet<>();
+            for (int length = 1; length <= GRAM_LENGTH; length++) {
+                grams.addAll(grams(name, length));
+                grams.addAll(grams(description, length));
+            }
+            return grams;
+        }
+
+        int rank(String query) {
+            if (name.contains(query)) {
+                return NAME_MATCH_RANK;
+            }
+            if (description.contains(query)) {
+                return DESCRIPTION_MATCH_RANK;
+            }
+            return 0;
+        }
+    }
+}
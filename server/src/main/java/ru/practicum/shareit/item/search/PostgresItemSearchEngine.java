@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresItemSearchEngine implements ItemSearchEngine {
+
+    private final ItemRepository itemRepository;
+
+    @Override
+    public void indexItem(Item item) {
+    }
+
+    @Override
+    public void removeItem(int itemId) {
+    }
+
+    @Override
+    public List<Integer> searchItemIds(String text, int from, int size) {
+        String textQuery = createTextQuery(text);
+
+        if (textQuery.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return itemRepository.findAllAvailableIdsByTextQuery(textQuery, PageRequest.of(from / size, size));
+    }
+
+    static String createTextQuery(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
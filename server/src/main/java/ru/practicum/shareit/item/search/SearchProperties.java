@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "shareit.search")
+public class SearchProperties {
+
+    private String engine = "ngram";
+    private Duration refreshInterval = Duration.ZERO;
+}
@@ -1,14 +1,20 @@
 package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.dto.ItemImportDto;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 
 public interface ItemService {
     ItemDto postItem(int ownerId, ItemDto itemDto);
 
+    ItemImportDto importItems(int ownerId, Iterator<ItemDto> itemDtos);
+
     ItemDto patchItem(int itemId, int ownerId, ItemDto itemDto);
 
     ItemDtoWithBooking getItemById(int ownerId, int itemId);
@@ -17,7 +23,11 @@ public interface ItemService {
 
     List<ItemDtoWithBooking> getAllItems(int ownerId, int from, int size);
 
+    List<ItemDtoWithBooking> getItemsByIds(int ownerId, List<Integer> itemIds);
+
     List<ItemDto> getSearchedItems(String text, int from, int size);
 
     CommentDto postComment(int ownerId, int itemId, CommentDto commentDto);
+
+    ItemAvailabilityDto getItemAvailability(int itemId, LocalDateTime from, LocalDateTime to);
 }
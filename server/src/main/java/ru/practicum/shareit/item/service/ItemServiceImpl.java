@@ -8,10 +8,16 @@ import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemNearestBooking;
+import ru.practicum.shareit.booking.model.ShortBooking;
+import ru.practicum.shareit.booking.schedule.BookingIntervalIndex;
 import ru.practicum.shareit.booking.storage.BookingRepository;
+import ru.practicum.shareit.cache.OwnerCache;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.dto.ItemImportDto;
 import ru.practicum.shareit.item.exception.CommentNotFoundException;
 import ru.practicum.shareit.item.exception.ItemNotFoundException;
 import ru.practicum.shareit.item.exception.WrongIdException;
@@ -19,6 +25,7 @@ import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.item.storage.CommentRepository;
 import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.request.exception.ItemRequestNotFoundException;
@@ -30,21 +37,33 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
+    private static final int IMPORT_BATCH_SIZE = 50;
+
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
     private final ItemItemRequestConnectionRepository itemItemRequestConnectionRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final OwnerCache ownerCache;
 
     @Transactional(propagation = Propagation.REQUIRED)
     @Override
@@ -54,6 +73,8 @@ public class ItemServiceImpl implements ItemService {
 
         Item item = ItemMapper.createItem(itemDto, userFromDb);
         Item itemFormDb = itemRepository.save(item);
+        itemSearchEngine.indexItem(itemFormDb);
+        ownerCache.evict(ownerId);
 
         if (itemDto.getRequestId() == null) {
             return ItemMapper.createItemDtoWithoutComments(itemFormDb);
@@ -68,6 +89,38 @@ public class ItemServiceImpl implements ItemService {
 
     }
 
+    @Transactional(propagation = Propagation.REQUIRED)
+    @Override
+    public ItemImportDto importItems(int ownerId, Iterator<ItemDto> itemDtos) {
+
+        User userFromDb = userRepository.findUserById(ownerId).orElseThrow(() -> new UserNotFoundException("User not found"));
+
+        List<Integer> ids = new ArrayList<>();
+        List<Item> items = new ArrayList<>(IMPORT_BATCH_SIZE);
+        List<Integer> requestIds = new ArrayList<>(IMPORT_BATCH_SIZE);
+        Set<Integer> checkedRequestIds = new HashSet<>();
+
+        while (itemDtos.hasNext()) {
+            ItemDto itemDto = itemDtos.next();
+
+            Integer requestId = itemDto.getRequestId();
+            if (requestId != null && checkedRequestIds.add(requestId)) {
+                itemRequestRepository.findItemRequestById(requestId).orElseThrow(() -> new ItemRequestNotFoundException("item request not found"));
+            }
+
+            items.add(ItemMapper.createItem(itemDto, userFromDb));
+            requestIds.add(requestId);
+
+            if (items.size() == IMPORT_BATCH_SIZE) {
+                saveImportedItems(items, requestIds, ids);
+            }
+        }
+        saveImportedItems(items, requestIds, ids);
+
+        ownerCache.evict(ownerId);
+        return ItemMapper.createItemImportDto(ids);
+    }
+
     @Transactional(propagation = Propagation.REQUIRED)
     @Override
     public ItemDto patchItem(int itemId, int ownerId, ItemDto itemDto) {
@@ -94,7 +147,11 @@ public class ItemServiceImpl implements ItemService {
             itemFromDb.setAvailable(item.getAvailable());
         }
 
-        return ItemMapper.createItemDtoWithoutComments(itemRepository.save(itemFromDb));
+        Item itemPatched = itemRepository.save(itemFromDb);
+        itemSearchEngine.indexItem(itemPatched);
+        ownerCache.evict(ownerId);
+
+        return ItemMapper.createItemDtoWithoutComments(itemPatched);
     }
 
     @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
@@ -127,26 +184,94 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public void deleteItemById(int itemId) {
 
-        itemRepository.findItemById(itemId).orElseThrow(() -> new ItemNotFoundException("Item not found"));
+        Item itemFromDb = itemRepository.findItemById(itemId).orElseThrow(() -> new ItemNotFoundException("Item not found"));
 
         itemRepository.deleteById(itemId);
+        itemSearchEngine.removeItem(itemId);
+        ownerCache.evict(itemFromDb.getOwner().getId());
     }
 
     @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
     @Override
     public List<ItemDtoWithBooking> getAllItems(int ownerId, int from, int size) {
-        LocalDateTime localDateTimeNow = LocalDateTime.now();
+        List<ItemDtoWithBooking> items = ownerCache.get(ownerId, "items:" + from + ":" + size, () -> findAllItems(ownerId, from, size));
 
-        PageRequest pageRequest = PageRequest.of(from > 0 ? from / size : 0, size);
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        return itemRepository.findAllByOwnerIdOrderById(ownerId, pageRequest)
+        List<Integer> itemIds = items.stream()
+                .map(ItemDtoWithBooking::getId)
+                .collect(Collectors.toList());
+
+        Map<Integer, ShortBooking> lastBookings = new HashMap<>();
+        Map<Integer, ShortBooking> nextBookings = new HashMap<>();
+        findNearestBookings(itemIds, LocalDateTime.now(), lastBookings, nextBookings);
+
+        return items.stream()
                 .map(item -> ItemMapper.createItemDtoWithBooking(item,
-                        BookingMapper.createShortBooking(bookingRepository.findFirstBookingByItem_IdAndStatusNotAndStartBeforeOrderByStartDesc(item.getId(), BookingStatus.REJECTED, localDateTimeNow).stream().findFirst().orElse(null)),
-                        BookingMapper.createShortBooking(bookingRepository.findFirstBookingByItem_IdAndStatusNotAndStartAfterOrderByStart(item.getId(), BookingStatus.REJECTED, localDateTimeNow).stream().findFirst().orElse(null)),
-                        commentRepository.findAllByItemId(item.getId()).stream()
-                                .map(CommentMapper::createCommentDto)
-                                .collect(Collectors.toList())))
-                .getContent();
+                        lastBookings.get(item.getId()),
+                        nextBookings.get(item.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private List<ItemDtoWithBooking> findAllItems(int ownerId, int from, int size) {
+        PageRequest pageRequest = PageRequest.of(from > 0 ? from / size : 0, size);
+
+        List<Item> items = itemRepository.findAllByOwnerIdOrderById(ownerId, pageRequest).getContent();
+
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+
+        Map<Integer, List<CommentDto>> comments = CommentMapper.createCommentDtosByItemId(commentRepository.findAllByItemIdIn(itemIds));
+
+        return items.stream()
+                .map(item -> ItemMapper.createItemDtoWithBooking(item, null, null,
+                        comments.getOrDefault(item.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+    @Override
+    public List<ItemDtoWithBooking> getItemsByIds(int ownerId, List<Integer> itemIds) {
+
+        if (itemIds == null || itemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, Item> items = itemRepository.findAllByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> ownedItemIds = items.values().stream()
+                .filter(item -> item.getOwner().getId() == ownerId)
+                .map(Item::getId)
+                .collect(Collectors.toList());
+
+        Map<Integer, ShortBooking> lastBookings = new HashMap<>();
+        Map<Integer, ShortBooking> nextBookings = new HashMap<>();
+        if (!ownedItemIds.isEmpty()) {
+            findNearestBookings(ownedItemIds, LocalDateTime.now(), lastBookings, nextBookings);
+        }
+
+        Map<Integer, List<CommentDto>> comments = CommentMapper.createCommentDtosByItemId(commentRepository.findAllByItemIdIn(items.keySet()));
+
+        return itemIds.stream()
+                .distinct()
+                .filter(items::containsKey)
+                .map(itemId -> ItemMapper.createItemDtoWithBooking(items.get(itemId),
+                        lastBookings.get(itemId),
+                        nextBookings.get(itemId),
+                        comments.getOrDefault(itemId, new ArrayList<>())))
+                .collect(Collectors.toList());
     }
 
     @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
@@ -157,13 +282,21 @@ public class ItemServiceImpl implements ItemService {
             return new ArrayList<>();
         }
 
-        PageRequest pageRequest = PageRequest.of(from > 0 ? from / size : 0, size);
+        List<Integer> itemIds = itemSearchEngine.searchItemIds(text, from > 0 ? from / size * size : 0, size);
+
+        if (itemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, Item> items = itemRepository.findAllByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
 
-        return itemRepository.findAllByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCaseAndAvailable(text, text, Boolean.TRUE, pageRequest)
-                .map(item -> ItemMapper.createItemDto(item, commentRepository.findAllByItemId(item.getId()).stream()
-                        .map(CommentMapper::createCommentDto)
-                        .collect(Collectors.toList())))
-                .getContent();
+        Map<Integer, List<CommentDto>> comments = CommentMapper.createCommentDtosByItemId(commentRepository.findAllByItemIdIn(itemIds));
+
+        return itemIds.stream()
+                .filter(items::containsKey)
+                .map(itemId -> ItemMapper.createItemDto(items.get(itemId), comments.getOrDefault(itemId, new ArrayList<>())))
+                .collect(Collectors.toList());
     }
 
     @Transactional(propagation = Propagation.REQUIRED)
@@ -178,8 +311,59 @@ public class ItemServiceImpl implements ItemService {
 
         Comment comment = CommentMapper.createComment(commentDto, userFromDb, itemFromDb);
         comment.setCreated(LocalDateTime.now());
+        ownerCache.evict(itemFromDb.getOwner().getId());
 
         return CommentMapper.createCommentDto(commentRepository.save(comment));
 
     }
+
+    @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+    @Override
+    public ItemAvailabilityDto getItemAvailability(int itemId, LocalDateTime from, LocalDateTime to) {
+
+        itemRepository.findItemById(itemId).orElseThrow(() -> new ItemNotFoundException("Item not found"));
+
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.HOURS);
+        if (end.isBefore(to)) {
+            end = end.plusHours(1);
+        }
+
+        return ItemMapper.createItemAvailabilityDto(itemId, start, end, bookingIntervalIndex.getBusyHours(itemId, start, end));
+    }
+
+    private void findNearestBookings(List<Integer> itemIds, LocalDateTime currentTime,
+                                     Map<Integer, ShortBooking> lastBookings, Map<Integer, ShortBooking> nextBookings) {
+        for (ItemNearestBooking booking : bookingRepository.findLastAndNextByItemIdIn(itemIds, BookingStatus.REJECTED.name(), currentTime)) {
+            if (booking.isLast()) {
+                lastBookings.put(booking.getItemId(), BookingMapper.createShortBooking(booking));
+            } else {
+                nextBookings.put(booking.getItemId(), BookingMapper.createShortBooking(booking));
+            }
+        }
+    }
+
+    private void saveImportedItems(List<Item> items, List<Integer> requestIds, List<Integer> ids) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        itemRepository.persistInBatch(items);
+
+        List<ItemItemRequestConnection> connections = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            itemSearchEngine.indexItem(item);
+            ids.add(item.getId());
+            if (requestIds.get(i) != null) {
+                connections.add(new ItemItemRequestConnection(0, item.getId(), requestIds.get(i)));
+            }
+        }
+        if (!connections.isEmpty()) {
+            itemItemRequestConnectionRepository.saveAll(connections);
+        }
+
+        items.clear();
+        requestIds.clear();
+    }
 }
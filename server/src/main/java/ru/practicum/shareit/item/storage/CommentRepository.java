@@ -1,12 +1,20 @@
 package ru.practicum.shareit.item.storage;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
     List<Comment> findAllByItemId(int itemId);
+
+    @Query("select c " +
+            "from Comment c " +
+            "join fetch c.author " +
+            "where c.item.id in ?1 ")
+    List<Comment> findAllByItemIdIn(Collection<Integer> itemIds);
 }
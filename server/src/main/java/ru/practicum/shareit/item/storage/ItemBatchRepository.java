@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.storage;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+public interface ItemBatchRepository {
+    void persistInBatch(List<Item> items);
+}
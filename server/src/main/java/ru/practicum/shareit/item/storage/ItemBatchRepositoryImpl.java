@@ -0,0 +1,22 @@
+package ru.practicum.shareit.item.storage;
+
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+public class ItemBatchRepositoryImpl implements ItemBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void persistInBatch(List<Item> items) {
+        for (Item item : items) {
+            entityManager.persist(item);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
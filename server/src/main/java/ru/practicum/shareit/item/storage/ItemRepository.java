@@ -1,29 +1,60 @@
 package ru.practicum.shareit.item.storage;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.model.ItemForRequest;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Integer> {
+public interface ItemRepository extends JpaRepository<Item, Integer>, ItemBatchRepository {
     Optional<Item> findItemById(Integer id);
 
-    Page<Item> findAllByOwnerIdOrderById(Integer ownerId, Pageable pageable);
+    @Query("select it " +
+            "from Item as it " +
+            "join fetch it.owner " +
+            "where it.owner.id = ?1 " +
+            "order by it.id ")
+    Slice<Item> findAllByOwnerIdOrderById(Integer ownerId, Pageable pageable);
 
-    Page<Item> findAllByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCaseAndAvailable(String text, String sameText, Boolean available, Pageable pageable);
+    @EntityGraph(attributePaths = "owner")
+    List<Item> findAllByAvailableTrue();
 
-    @Query("select new ru.practicum.shareit.item.model.ItemForRequest(it.id, it.name, it.description, it.available, ir.id) " +
+    @Query("select it.id " +
+            "from Item as it " +
+            "where it.owner.id = ?1 ")
+    List<Integer> findAllIdsByOwnerId(Integer ownerId);
+
+    @Query("select it " +
+            "from Item as it " +
+            "join fetch it.owner " +
+            "where it.id in ?1 ")
+    List<Item> findAllByIdIn(Collection<Integer> ids);
+
+    @Query(value = "select cast(it.id as integer) " +
+            "from items as it " +
+            "where it.is_available = true " +
+            "and to_tsvector('simple', it.name || ' ' || it.description) @@ to_tsquery('simple', ?1) " +
+            "order by ts_rank(to_tsvector('simple', it.name || ' ' || it.description), to_tsquery('simple', ?1)) desc, it.id ", nativeQuery = true)
+    List<Integer> findAllAvailableIdsByTextQuery(String textQuery, Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.item.model.ItemForRequest(it.id, it.name, it.description, it.available, iirc.requestId) " +
             "from ItemItemRequestConnection as iirc " +
-            "left join Item as it on it.id = iirc.itemId " +
-            "left join ItemRequest as ir on ir.id = iirc.requestId " +
-            "where ir.id = ?1 ")
+            "join Item as it on it.id = iirc.itemId " +
+            "where iirc.requestId = ?1 ")
     List<ItemForRequest> findAllItemsForRequestByRequestId(int requestId);
 
+    @Query("select new ru.practicum.shareit.item.model.ItemForRequest(it.id, it.name, it.description, it.available, iirc.requestId) " +
+            "from ItemItemRequestConnection as iirc " +
+            "join Item as it on it.id = iirc.itemId " +
+            "where iirc.requestId in ?1 ")
+    List<ItemForRequest> findAllItemsForRequestByRequestIdIn(Collection<Integer> requestIds);
+
 }
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public RequestMetricsFilter requestMetricsFilter(MeterRegistry meterRegistry,
+                                                     RepositoryCallCounter repositoryCallCounter,
+                                                     SqlStatementCounter sqlStatementCounter,
+                                                     SqlStatementBudgetProperties sqlStatementBudgetProperties) {
+        return new RequestMetricsFilter(meterRegistry, repositoryCallCounter, sqlStatementCounter, sqlStatementBudgetProperties);
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.metrics;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class RepositoryCallCounter {
+
+    private final ThreadLocal<int[]> calls = new ThreadLocal<>();
+
+    public void start() {
+        calls.set(new int[1]);
+    }
+
+    public void increment() {
+        int[] counter = calls.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    public int finish() {
+        int[] counter = calls.get();
+        calls.remove();
+        return counter == null ? 0 : counter[0];
+    }
+}
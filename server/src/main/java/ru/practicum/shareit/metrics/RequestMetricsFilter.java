@@ -0,0 +1,103 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    public static final String REPOSITORY_CALLS_PER_REQUEST = "shareit.repository.calls.per.request";
+    public static final String SQL_STATEMENTS_PER_REQUEST = "shareit.sql.statements.per.request";
+    public static final String SQL_STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+
+    private final MeterRegistry meterRegistry;
+    private final RepositoryCallCounter repositoryCallCounter;
+    private final SqlStatementCounter sqlStatementCounter;
+    private final SqlStatementBudgetProperties sqlStatementBudgetProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        repositoryCallCounter.start();
+        sqlStatementCounter.start();
+        int repositoryCalls;
+        int sqlStatements;
+        try {
+            filterChain.doFilter(request, new SqlStatementCountResponse(response));
+        } finally {
+            repositoryCalls = repositoryCallCounter.finish();
+            sqlStatements = sqlStatementCounter.finish();
+        }
+        if (!response.isCommitted()) {
+            response.setHeader(SQL_STATEMENT_COUNT_HEADER, String.valueOf(sqlStatements));
+        }
+
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (uri == null) {
+            return;
+        }
+        record(REPOSITORY_CALLS_PER_REQUEST, request.getMethod(), uri.toString(), repositoryCalls);
+        record(SQL_STATEMENTS_PER_REQUEST, request.getMethod(), uri.toString(), sqlStatements);
+
+        if (sqlStatementBudgetProperties.isEnforced()) {
+            sqlStatementBudgetProperties.getLimit(request.getMethod(), uri.toString())
+                    .filter(limit -> sqlStatements > limit)
+                    .ifPresent(limit -> {
+                        throw new SqlStatementBudgetExceededException(String.format("%s %s executed %d SQL statements, budget is %d",
+                                request.getMethod(), uri, sqlStatements, limit));
+                    });
+        }
+    }
+
+    private void record(String name, String method, String uri, int amount) {
+        DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(amount);
+    }
+
+    private class SqlStatementCountResponse extends HttpServletResponseWrapper {
+
+        SqlStatementCountResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            setSqlStatementCount();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            setSqlStatementCount();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            setSqlStatementCount();
+            super.flushBuffer();
+        }
+
+        private void setSqlStatementCount() {
+            if (!isCommitted()) {
+                setHeader(SQL_STATEMENT_COUNT_HEADER, String.valueOf(sqlStatementCounter.current()));
+            }
+        }
+    }
+}
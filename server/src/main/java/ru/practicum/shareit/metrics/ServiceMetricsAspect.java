@@ -0,0 +1,89 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String SERVICE_CALLS = "shareit.service.calls";
+    public static final String SERVICE_RESULT_SIZE = "shareit.service.result.size";
+    public static final String REPOSITORY_CALLS = "shareit.repository.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final RepositoryCallCounter repositoryCallCounter;
+
+    @Around("within(ru.practicum.shareit..service.*ServiceImpl)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+
+        Object result = time(joinPoint, Timer.builder(SERVICE_CALLS)
+                .tag("service", service)
+                .tag("method", method)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram());
+
+        Integer size = resultSize(result);
+        if (size != null) {
+            DistributionSummary.builder(SERVICE_RESULT_SIZE)
+                    .tag("service", service)
+                    .tag("method", method)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(size);
+        }
+        return result;
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        repositoryCallCounter.increment();
+        return time(joinPoint, Timer.builder(REPOSITORY_CALLS)
+                .tag("repository", repositoryName(joinPoint))
+                .tag("method", joinPoint.getSignature().getName()));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, Timer.Builder timer) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            sample.stop(timer.tag("exception", exception).register(meterRegistry));
+        }
+    }
+
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> repositoryInterface : joinPoint.getThis().getClass().getInterfaces()) {
+            if (repositoryInterface.getName().startsWith("ru.practicum.shareit.")) {
+                return repositoryInterface.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    private static Integer resultSize(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.metrics;
+
+public class SqlStatementBudgetExceededException extends RuntimeException {
+    public SqlStatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
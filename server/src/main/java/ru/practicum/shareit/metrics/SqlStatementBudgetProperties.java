@@ -0,0 +1,24 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "shareit.sql-budget")
+public class SqlStatementBudgetProperties {
+
+    private boolean enforced;
+    private Integer defaultLimit;
+    private Map<String, Map<String, Integer>> limits = new HashMap<>();
+
+    public Optional<Integer> getLimit(String method, String uri) {
+        Integer limit = limits.getOrDefault(method.toLowerCase(), Map.of()).get(uri);
+        return Optional.ofNullable(limit != null ? limit : defaultLimit);
+    }
+}
@@ -1,11 +1,12 @@
 package ru.practicum.shareit.request.service;
 
 import lombok.AllArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.dto.ItemForRequestDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
@@ -18,7 +19,9 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,12 +52,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         userRepository.findUserById(ownerId).orElseThrow(() -> new UserNotFoundException("User not found"));
 
         List<ItemRequest> itemRequests = itemRequestRepository.findAllByUserIdOrderByCreatedAsc(ownerId);
-        return itemRequests.stream()
-                .map(itemRequest -> ItemRequestMapper.createItemRequestDto(itemRequest,
-                        itemRepository.findAllItemsForRequestByRequestId(itemRequest.getId()).stream()
-                                .map(ItemMapper::createItemForRequestDto)
-                                .collect(Collectors.toList())))
-                .collect(Collectors.toList());
+        return createItemRequestDtos(itemRequests);
     }
 
     @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
@@ -65,12 +63,9 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
         PageRequest pageRequest = PageRequest.of(from > 0 ? from / size : 0, size);
 
-        Page<ItemRequest> itemRequests = itemRequestRepository.findAllByUserIdNotOrderByCreatedAsc(ownerId, pageRequest);
+        Slice<ItemRequest> itemRequests = itemRequestRepository.findAllByUserIdNotOrderByCreatedAsc(ownerId, pageRequest);
 
-        return itemRequests.map(itemRequest -> ItemRequestMapper.createItemRequestDto(itemRequest,
-                itemRepository.findAllItemsForRequestByRequestId(itemRequest.getId()).stream()
-                        .map(ItemMapper::createItemForRequestDto)
-                        .collect(Collectors.toList()))).getContent();
+        return createItemRequestDtos(itemRequests.getContent());
     }
 
     @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
@@ -86,5 +81,18 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 .collect(Collectors.toList()));
     }
 
+    private List<ItemRequestDto> createItemRequestDtos(List<ItemRequest> itemRequests) {
+
+        if (itemRequests.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, List<ItemForRequestDto>> items = ItemMapper.createItemForRequestDtosByRequestId(itemRepository.findAllItemsForRequestByRequestIdIn(itemRequests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList())));
 
+        return itemRequests.stream()
+                .map(itemRequest -> ItemRequestMapper.createItemRequestDto(itemRequest, items.getOrDefault(itemRequest.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
 }
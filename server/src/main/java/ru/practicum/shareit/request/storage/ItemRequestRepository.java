@@ -1,8 +1,10 @@
 package ru.practicum.shareit.request.storage;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.request.model.ItemRequest;
 
@@ -11,9 +13,15 @@ import java.util.Optional;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Integer> {
+    @Query("select r " +
+            "from ItemRequest r " +
+            "join fetch r.user " +
+            "where r.user.id = ?1 " +
+            "order by r.created ")
     List<ItemRequest> findAllByUserIdOrderByCreatedAsc(int userId);
 
-    Page<ItemRequest> findAllByUserIdNotOrderByCreatedAsc(int userId, Pageable pageable);
+    @EntityGraph(attributePaths = "user")
+    Slice<ItemRequest> findAllByUserIdNotOrderByCreatedAsc(int userId, Pageable pageable);
 
     Optional<ItemRequest> findItemRequestById(int requestId);
 }
@@ -4,6 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.schedule.BookingIntervalIndex;
+import ru.practicum.shareit.cache.OwnerCache;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.exception.UserNotFoundException;
 import ru.practicum.shareit.user.mapper.UserMapper;
@@ -18,6 +22,10 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final OwnerCache ownerCache;
 
     @Transactional(propagation = Propagation.REQUIRED)
     @Override
@@ -40,7 +48,10 @@ public class UserServiceImpl implements UserService {
             userFromDb.setName(userDto.getName());
         }
 
-        return UserMapper.createUserDto(userRepository.save(userFromDb));
+        User userPatched = userRepository.save(userFromDb);
+        ownerCache.clear();
+
+        return UserMapper.createUserDto(userPatched);
     }
 
     @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
@@ -54,7 +65,10 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteUserById(int userId) {
         userRepository.findUserById(userId).orElseThrow(() -> new UserNotFoundException("User not found"));
+        bookingIntervalIndex.evictUser(userId);
+        itemRepository.findAllIdsByOwnerId(userId).forEach(itemSearchEngine::removeItem);
         userRepository.deleteById(userId);
+        ownerCache.clear();
     }
 
     @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
@@ -75,5 +75,3 @@ create table IF NOT EXISTS ITEM_ITEM_REQUEST_CONNECTION
         foreign key (REQUEST_ID) references ITEM_REQUEST
             on update cascade on delete cascade
 );
-
-
@@ -0,0 +1,21 @@
+CREATE INDEX IF NOT EXISTS BOOKING_BOOKER_START_IDX ON BOOKING (BOOKER_ID, START_DATE DESC, ID DESC);
+
+CREATE INDEX IF NOT EXISTS BOOKING_BOOKER_STATUS_START_IDX ON BOOKING (BOOKER_ID, STATUS, START_DATE DESC);
+
+CREATE INDEX IF NOT EXISTS BOOKING_BOOKER_END_IDX ON BOOKING (BOOKER_ID, END_DATE);
+
+CREATE INDEX IF NOT EXISTS BOOKING_ITEM_START_IDX ON BOOKING (ITEM_ID, START_DATE DESC, ID DESC);
+
+CREATE INDEX IF NOT EXISTS BOOKING_ITEM_STATUS_START_IDX ON BOOKING (ITEM_ID, STATUS, START_DATE);
+
+CREATE INDEX IF NOT EXISTS ITEMS_OWNER_ID_IDX ON ITEMS (OWNER_ID, ID);
+
+CREATE INDEX IF NOT EXISTS COMMENTS_ITEM_ID_IDX ON COMMENTS (ITEM_ID);
+
+CREATE INDEX IF NOT EXISTS ITEM_REQUEST_USER_CREATED_IDX ON ITEM_REQUEST (USER_ID, CREATED);
+
+CREATE INDEX IF NOT EXISTS ITEM_REQUEST_CREATED_IDX ON ITEM_REQUEST (CREATED);
+
+CREATE INDEX IF NOT EXISTS ITEM_ITEM_REQUEST_CONNECTION_REQUEST_ID_IDX ON ITEM_ITEM_REQUEST_CONNECTION (REQUEST_ID);
+
+CREATE INDEX IF NOT EXISTS ITEM_ITEM_REQUEST_CONNECTION_ITEM_ID_IDX ON ITEM_ITEM_REQUEST_CONNECTION (ITEM_ID);
@@ -0,0 +1,3 @@
+CREATE SEQUENCE IF NOT EXISTS ITEMS_SEQ INCREMENT BY 50;
+
+ALTER SEQUENCE ITEMS_SEQ RESTART WITH (SELECT COALESCE(MAX(ID), 0) + 50 FROM ITEMS);
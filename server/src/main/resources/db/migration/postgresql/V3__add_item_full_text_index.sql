@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS ITEMS_FULL_TEXT_IDX ON ITEMS USING GIN (to_tsvector('simple', name || ' ' || description));
@@ -0,0 +1,27 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO
+$$
+    DECLARE
+        conflicts TEXT;
+    BEGIN
+        SELECT string_agg(b.ID || '/' || o.ID, ', ' ORDER BY b.ID, o.ID)
+        INTO conflicts
+        FROM BOOKING b
+                 JOIN BOOKING o ON o.ITEM_ID = b.ITEM_ID AND o.ID > b.ID
+        WHERE b.STATUS IN ('WAITING', 'APPROVED')
+          AND o.STATUS IN ('WAITING', 'APPROVED')
+          AND o.START_DATE < b.END_DATE
+          AND b.START_DATE < o.END_DATE;
+
+        IF conflicts IS NOT NULL THEN
+            RAISE EXCEPTION 'Overlapping active bookings must be resolved before BOOKING_NO_OVERLAP can be added: %', conflicts;
+        END IF;
+    END
+$$;
+
+ALTER TABLE BOOKING DROP CONSTRAINT IF EXISTS BOOKING_NO_OVERLAP;
+
+ALTER TABLE BOOKING ADD CONSTRAINT BOOKING_NO_OVERLAP
+    EXCLUDE USING gist (ITEM_ID WITH =, tstzrange(START_DATE, END_DATE) WITH &&)
+    WHERE (STATUS IN ('WAITING', 'APPROVED'));
@@ -0,0 +1,3 @@
+CREATE SEQUENCE IF NOT EXISTS ITEMS_SEQ INCREMENT BY 50;
+
+SELECT setval('items_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM items), false);
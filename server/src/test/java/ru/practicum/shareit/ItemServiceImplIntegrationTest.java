@@ -13,6 +13,7 @@ import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.dto.ItemImportDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
@@ -145,6 +146,47 @@ class ItemServiceImplIntegrationTest {
         Assertions.assertEquals(itemDtoWithBookingListShouldBe, itemDtoWithBookingList);
     }
 
+    @Test
+    void getItemsByIds() {
+
+        UserDto userDtoOwner = userService.postUser(new UserDto(1, "Viktor B", "vitekb650@gmail.com"));
+        UserDto userDtoOther = userService.postUser(new UserDto(1, "Kick", "kick@gmail.com"));
+
+        ItemDto itemDtoPosted1 = itemService.postItem(userDtoOwner.getId(), new ItemDto(1, "Дрель", "Базированная дрель", Boolean.TRUE, userDtoOwner.getId(), null, null));
+        ItemDto itemDtoPosted2 = itemService.postItem(userDtoOther.getId(), new ItemDto(1, "Дрелька", "Базированная дрелька", Boolean.TRUE, userDtoOther.getId(), null, null));
+
+        List<ItemDtoWithBooking> itemDtoWithBookingList = itemService.getItemsByIds(userDtoOwner.getId(), List.of(itemDtoPosted2.getId(), itemDtoPosted1.getId()));
+
+        Assertions.assertEquals(List.of(itemDtoPosted2.getId(), itemDtoPosted1.getId()), itemDtoWithBookingList.stream()
+                .map(ItemDtoWithBooking::getId)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(userDtoOther.getId(), userDtoOwner.getId()), itemDtoWithBookingList.stream()
+                .map(ItemDtoWithBooking::getOwnerId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void importItems() {
+
+        UserDto userDtoPosted = userService.postUser(new UserDto(1, "Viktor B", "vitekb650@gmail.com"));
+
+        List<ItemDto> itemDtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            itemDtos.add(new ItemDto(0, "Дрель" + i, "Базированная дрель", Boolean.TRUE, userDtoPosted.getId(), null, null));
+        }
+
+        ItemImportDto itemImportDto = itemService.importItems(userDtoPosted.getId(), itemDtos.iterator());
+
+        TypedQuery<Item> query = em.createQuery("Select i from Item i where i.owner.id = :ownerId order by i.id", Item.class);
+        List<Item> itemList = query.setParameter("ownerId", userDtoPosted.getId()).getResultList();
+
+        Assertions.assertEquals(120, itemImportDto.getImported());
+        Assertions.assertEquals(itemImportDto.getIds(), itemList.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals("Дрель119", itemList.get(119).getName());
+    }
+
     @Test
     void getSearchedItems() {
 
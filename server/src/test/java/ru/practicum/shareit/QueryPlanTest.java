@@ -0,0 +1,195 @@
+package ru.practicum.shareit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.storage.BookingRepository;
+import ru.practicum.shareit.item.storage.CommentRepository;
+import ru.practicum.shareit.item.storage.ItemRepository;
+import ru.practicum.shareit.request.storage.ItemRequestRepository;
+
+import javax.persistence.EntityManager;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+@Transactional
+@DataJpaTest
+@Import(QueryPlanTest.StatementCaptureConfig.class)
+@TestPropertySource("classpath:application-test.properties")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanTest {
+
+    static final Pattern FULL_INDEX_SCAN = Pattern.compile("/\\* PUBLIC\\.\\w+ \\*/");
+    static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ItemRequestRepository itemRequestRepository;
+
+    PageRequest page = PageRequest.of(0, 10);
+    LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void generator() {
+        statements.clear();
+    }
+
+    @Test
+    void bookerBookingsUseIndex() {
+
+        bookingRepository.findAllByBookerIdOrderByStartDesc(1, page);
+        bookingRepository.findAllByStatusAndBookerIdOrderByStartDesc(BookingStatus.WAITING, 1, page);
+        bookingRepository.findAllByEndIsBeforeAndBookerIdOrderByStartDesc(now, 1, page);
+        bookingRepository.findAllByStartIsAfterAndBookerIdOrderByStartDesc(now, 1, page);
+        bookingRepository.findAllByStartBeforeAndEndAfterAndBookerId(now, now, 1, page);
+
+        assertCapturedStatementsUseIndex(5);
+    }
+
+    @Test
+    void ownerBookingsUseIndex() {
+
+        bookingRepository.findAllByItem_OwnerIdOrderByStartDesc(1, page);
+        bookingRepository.findAllByStatusAndItem_OwnerIdOrderByStartDesc(BookingStatus.WAITING, 1, page);
+        bookingRepository.findAllByEndIsBeforeAndItem_OwnerIdOrderByStartDesc(now, 1, page);
+        bookingRepository.findAllByStartIsAfterAndItem_OwnerIdOrderByStartDesc(now, 1, page);
+        bookingRepository.findAllByStartBeforeAndEndAfterAndItem_OwnerId(now, now, 1, page);
+
+        assertCapturedStatementsUseIndex(5);
+    }
+
+    @Test
+    void seekBookingsUseIndex() {
+
+        bookingRepository.findAllByBookerIdAfterCursor(1, BookingState.ALL, now, new BookingCursor(now, 1), 10);
+        bookingRepository.findAllByItemOwnerIdAfterCursor(1, BookingState.ALL, now, new BookingCursor(now, 1), 10);
+
+        assertCapturedStatementsUseIndex(2);
+    }
+
+    @Test
+    void itemBookingsUseIndex() {
+
+        bookingRepository.findLastAndNextByItemIdIn(List.of(1, 2), BookingStatus.REJECTED.name(), now);
+        bookingRepository.findAllIntervalsByItemId(1, List.of(BookingStatus.WAITING, BookingStatus.APPROVED), now);
+
+        assertCapturedStatementsUseIndex(2);
+    }
+
+    @Test
+    void ownerItemsAndCommentsUseIndex() {
+
+        itemRepository.findAllByOwnerIdOrderById(1, page);
+        itemRepository.findAllIdsByOwnerId(1);
+        commentRepository.findAllByItemIdIn(List.of(1, 2));
+
+        assertCapturedStatementsUseIndex(3);
+    }
+
+    @Test
+    void itemRequestsUseIndex() {
+
+        itemRequestRepository.findAllByUserIdOrderByCreatedAsc(1);
+        itemRepository.findAllItemsForRequestByRequestId(1);
+        itemRepository.findAllItemsForRequestByRequestIdIn(List.of(1, 2));
+
+        assertCapturedStatementsUseIndex(3);
+    }
+
+    @Test
+    void otherUsersItemRequestsReadCreatedIndexInOrder() {
+
+        itemRequestRepository.findAllByUserIdNotOrderByCreatedAsc(1, page);
+
+        Assertions.assertEquals(1, statements.size());
+        String plan = explain(statements.get(0));
+        Assertions.assertTrue(plan.contains("ITEM_REQUEST_CREATED_IDX") && plan.contains("index sorted"), plan);
+    }
+
+    private void assertCapturedStatementsUseIndex(int expectedStatements) {
+        List<String> captured = new ArrayList<>(statements);
+        Assertions.assertEquals(expectedStatements, captured.size(), String.join("\n", captured));
+
+        for (String sql : captured) {
+            String plan = explain(sql);
+            Assertions.assertFalse(plan.contains("tableScan") || FULL_INDEX_SCAN.matcher(plan).find(), plan);
+        }
+    }
+
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    switch (parameters.getParameterType(i)) {
+                        case Types.TIMESTAMP:
+                        case Types.TIMESTAMP_WITH_TIMEZONE:
+                            statement.setTimestamp(i, Timestamp.valueOf(now));
+                            break;
+                        case Types.VARCHAR:
+                            statement.setString(i, BookingStatus.WAITING.name());
+                            break;
+                        default:
+                            statement.setInt(i, 1);
+                            break;
+                    }
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            StatementInspector inspector = sql -> {
+                statements.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.storage.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemIdsDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.storage.ItemRepository;
+import ru.practicum.shareit.metrics.RequestMetricsFilter;
+import ru.practicum.shareit.metrics.SqlStatementBudgetExceededException;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.request.storage.ItemItemRequestConnectionRepository;
+import ru.practicum.shareit.request.storage.ItemRequestRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.storage.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "shareit.sql-budget.limits.get[/users]=0")
+class SqlStatementBudgetTest {
+
+    @Autowired
+    MockMvc mvc;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    UserService userService;
+    @Autowired
+    ItemService itemService;
+    @Autowired
+    BookingService bookingService;
+    @Autowired
+    ItemRequestService itemRequestService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ItemRepository itemRepository;
+    @Autowired
+    BookingRepository bookingRepository;
+    @Autowired
+    ItemRequestRepository itemRequestRepository;
+    @Autowired
+    ItemItemRequestConnectionRepository itemItemRequestConnectionRepository;
+
+    int ownerId;
+    int bookerId;
+    List<Integer> itemIds;
+    static final LocalDateTime DATE = LocalDateTime.now().plusDays(1).withNano(0);
+
+    @BeforeEach
+    void generator() {
+        ownerId = userService.postUser(new UserDto(1, "Viktor B", "vitekb650@gmail.com")).getId();
+
+        List<Integer> bookerIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            bookerIds.add(userService.postUser(new UserDto(1, "Kick " + i, "kick" + i + "@gmail.com")).getId());
+        }
+        bookerId = bookerIds.get(0);
+
+        itemIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int itemId = itemService.postItem(ownerId, new ItemDto(1, "Дрель " + i, "Базированная дрель", Boolean.TRUE, ownerId, null, null)).getId();
+            itemIds.add(itemId);
+            for (int j = 0; j < bookerIds.size(); j++) {
+                bookingService.postBooking(bookerIds.get(j), new BookingDto(1, itemId, DATE.plusDays(j), DATE.plusDays(j).plusHours(1), null, null, null));
+            }
+        }
+
+        for (int bookerId : bookerIds) {
+            itemRequestService.postItemRequest(new ItemRequestDto(1, "Хончу пива", DATE, null), bookerId);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        itemItemRequestConnectionRepository.deleteAllInBatch();
+        itemRequestRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getAllItemsWithinBudget() throws Exception {
+        mvc.perform(get("/items?from=0&size=10").header("X-Sharer-User-Id", ownerId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(RequestMetricsFilter.SQL_STATEMENT_COUNT_HEADER));
+    }
+
+    @Test
+    void getItemsByIdsWithinBudget() throws Exception {
+        mvc.perform(post("/items/batch-get")
+                        .header("X-Sharer-User-Id", ownerId)
+                        .content(objectMapper.writeValueAsString(new ItemIdsDto(itemIds)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(RequestMetricsFilter.SQL_STATEMENT_COUNT_HEADER));
+    }
+
+    @Test
+    void importItemsWithinBudget() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            body.append(objectMapper.writeValueAsString(new ItemDto(0, "Дрель " + i, "Базированная дрель", Boolean.TRUE, ownerId, null, null)))
+                    .append('\n');
+        }
+
+        mvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", ownerId)
+                        .content(body.toString())
+                        .contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(RequestMetricsFilter.SQL_STATEMENT_COUNT_HEADER));
+    }
+
+    @Test
+    void getAllItemRequestsWithinBudget() throws Exception {
+        mvc.perform(get("/requests/all?from=0&size=10").header("X-Sharer-User-Id", ownerId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(RequestMetricsFilter.SQL_STATEMENT_COUNT_HEADER));
+    }
+
+    @Test
+    void getBookingsWithinBudget() throws Exception {
+        mvc.perform(get("/bookings?state=ALL&from=0&size=10").header("X-Sharer-User-Id", bookerId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(RequestMetricsFilter.SQL_STATEMENT_COUNT_HEADER));
+        mvc.perform(get("/bookings/owner?state=ALL&from=0&size=10").header("X-Sharer-User-Id", ownerId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(RequestMetricsFilter.SQL_STATEMENT_COUNT_HEADER));
+    }
+
+    @Test
+    void getAllUsersOverBudget() {
+        Assertions.assertThrows(SqlStatementBudgetExceededException.class, () -> mvc.perform(get("/users")));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSliceDto;
 import ru.practicum.shareit.booking.exception.*;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
@@ -248,4 +249,40 @@ class BookingControllerServerMockMvcTest {
                 .andExpect(result -> assertEquals("Unknown state: UNSUPPORTED_STATUS", Objects.requireNonNull(result.getResolvedException()).getMessage()));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItemsThatIBookedByCursor() throws Exception {
+
+        BookingDto bookingDtoBeforeWork = new BookingDto(1, 1, START, END, new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(3, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.APPROVED);
+
+        when(bookingService.getItemsThatIBookedByCursor("ALL", 1, null, 1))
+                .thenReturn(new BookingSliceDto(List.of(bookingDtoBeforeWork), "next"));
+
+        mvc.perform(get("/bookings/seek")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "ALL")
+                        .param("size", "1")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings[0].id", is(bookingDtoBeforeWork.getId())))
+                .andExpect(jsonPath("$.nextCursor", is("next")));
+    }
+
+    @Test
+    void getBookingsOfMyItemsByCursorThrowsBookingCursorException() throws Exception {
+
+        when(bookingService.getBookingsOfMyItemsByCursor("ALL", 1, "broken", 10))
+                .thenThrow(new BookingCursorException("Invalid cursor"));
+
+        mvc.perform(get("/bookings/owner/seek")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "ALL")
+                        .param("cursor", "broken")
+                        .param("size", "10")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof BookingCursorException));
+    }
+}
@@ -0,0 +1,166 @@
+package ru.practicum.shareit.booking.schedule;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.storage.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class BookingIntervalIndexUnitTest {
+
+    @Mock
+    BookingRepository bookingRepository;
+
+    BookingIntervalIndex bookingIntervalIndex;
+    static final LocalDateTime DATE = LocalDateTime.of(2030, 10, 20, 12, 0);
+
+    @BeforeEach
+    void generator() {
+        bookingIntervalIndex = new BookingIntervalIndex(bookingRepository, new BookingIndexProperties());
+    }
+
+    @Test
+    void isFree() {
+
+        Mockito.when(bookingRepository.findAllIntervalsByItemId(Mockito.eq(1), Mockito.eq(BookingIntervalIndex.ACTIVE_STATUSES), Mockito.any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingInterval(1, DATE, DATE.plusDays(10)), new BookingInterval(2, DATE.plusDays(12), DATE.plusDays(13))));
+
+        Assertions.assertFalse(bookingIntervalIndex.isFree(1, DATE.plusDays(5), DATE.plusDays(6)));
+        Assertions.assertFalse(bookingIntervalIndex.isFree(1, DATE.minusDays(1), DATE.plusHours(1)));
+        Assertions.assertFalse(bookingIntervalIndex.isFree(1, DATE.plusDays(11), DATE.plusDays(14)));
+        Assertions.assertTrue(bookingIntervalIndex.isFree(1, DATE.plusDays(10), DATE.plusDays(12)));
+        Assertions.assertTrue(bookingIntervalIndex.isFree(1, DATE.minusDays(2), DATE));
+        Assertions.assertTrue(bookingIntervalIndex.isFree(1, DATE.plusDays(5), DATE.plusDays(6), 1));
+
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findAllIntervalsByItemId(Mockito.eq(1), Mockito.eq(BookingIntervalIndex.ACTIVE_STATUSES), Mockito.any(LocalDateTime.class));
+    }
+
+    @Test
+    void isFreeReloadsExpiredIntervals() {
+
+        BookingIndexProperties properties = new BookingIndexProperties();
+        properties.setTtl(Duration.ZERO);
+        bookingIntervalIndex = new BookingIntervalIndex(bookingRepository, properties);
+
+        Mockito.when(bookingRepository.findAllIntervalsByItemId(Mockito.eq(1), Mockito.eq(BookingIntervalIndex.ACTIVE_STATUSES), Mockito.any(LocalDateTime.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new BookingInterval(1, DATE, DATE.plusDays(1))));
+
+        Assertions.assertTrue(bookingIntervalIndex.isFree(1, DATE, DATE.plusHours(1)));
+        Assertions.assertFalse(bookingIntervalIndex.isFree(1, DATE, DATE.plusHours(1)));
+    }
+
+    @Test
+    void evictUser() {
+
+        Mockito.when(bookingRepository.findAllIntervalsByItemId(Mockito.anyInt(), Mockito.eq(BookingIntervalIndex.ACTIVE_STATUSES), Mockito.any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingInterval(1, DATE, DATE.plusDays(1))));
+        Mockito.when(bookingRepository.findItemIdsByBookerIdOrOwnerId(2))
+                .thenReturn(List.of(1));
+
+        Assertions.assertFalse(bookingIntervalIndex.isFree(1, DATE, DATE.plusHours(1)));
+        Assertions.assertFalse(bookingIntervalIndex.isFree(2, DATE, DATE.plusHours(1)));
+
+        bookingIntervalIndex.evictUser(2);
+
+        Assertions.assertFalse(bookingIntervalIndex.isFree(1, DATE, DATE.plusHours(1)));
+        Assertions.assertFalse(bookingIntervalIndex.isFree(2, DATE, DATE.plusHours(1)));
+
+        Mockito.verify(bookingRepository, Mockito.times(2))
+                .findAllIntervalsByItemId(Mockito.eq(1), Mockito.eq(BookingIntervalIndex.ACTIVE_STATUSES), Mockito.any(LocalDateTime.class));
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findAllIntervalsByItemId(Mockito.eq(2), Mockito.eq(BookingIntervalIndex.ACTIVE_STATUSES), Mockito.any(LocalDateTime.class));
+    }
+
+    @Test
+    void updateBooking() {
+
+        Mockito.when(bookingRepository.findAllIntervalsByItemId(Mockito.eq(1), Mockito.eq(BookingIntervalIndex.ACTIVE_STATUSES), Mockito.any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        Booking booking = new Booking(1, DATE, DATE.plusDays(1), new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(1, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.WAITING);
+
+        bookingIntervalIndex.updateBooking(booking);
+        Assertions.assertFalse(bookingIntervalIndex.isFree(1, DATE, DATE.plusHours(1)));
+
+        booking.setStatus(BookingStatus.REJECTED);
+        bookingIntervalIndex.updateBooking(booking);
+        Assertions.assertTrue(bookingIntervalIndex.isFree(1, DATE, DATE.plusHours(1)));
+    }
+
+    @Test
+    void getBusyHours() {
+
+        Mockito.when(bookingRepository.findAllIntervalsByItemId(Mockito.eq(1), Mockito.eq(BookingIntervalIndex.ACTIVE_STATUSES), Mockito.any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingInterval(1, DATE.plusHours(2), DATE.plusHours(3).plusMinutes(30)), new BookingInterval(2, DATE.plusHours(3).plusMinutes(30), DATE.plusHours(5))));
+
+        BitSet expected = new BitSet();
+        expected.set(3, 6);
+        Assertions.assertEquals(expected, bookingIntervalIndex.getBusyHours(1, DATE.minusHours(1), DATE.plusHours(10)));
+
+        Booking booking = new Booking(1, DATE.plusHours(2), DATE.plusHours(3).plusMinutes(30), new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(1, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.REJECTED);
+        bookingIntervalIndex.updateBooking(booking);
+
+        expected.clear(3);
+        Assertions.assertEquals(expected, bookingIntervalIndex.getBusyHours(1, DATE.minusHours(1), DATE.plusHours(10)));
+
+        booking.setStatus(BookingStatus.APPROVED);
+        booking.setStart(DATE.minusHours(3));
+        booking.setEnd(DATE.minusHours(2));
+        bookingIntervalIndex.updateBooking(booking);
+
+        BitSet expectedAfterMove = new BitSet();
+        expectedAfterMove.set(1);
+        expectedAfterMove.set(7, 9);
+        Assertions.assertEquals(expectedAfterMove, bookingIntervalIndex.getBusyHours(1, DATE.minusHours(4), DATE.plusHours(7)));
+    }
+
+    @Test
+    void getBusyHoursForPastPeriod() {
+
+        LocalDateTime past = LocalDateTime.of(2020, 10, 20, 12, 0);
+
+        Mockito.when(bookingRepository.findAllIntervalsByItemIdBetween(1, BookingIntervalIndex.ACTIVE_STATUSES, past, past.plusHours(10)))
+                .thenReturn(List.of(new BookingInterval(1, past.plusHours(2), past.plusHours(4))));
+
+        BitSet expected = new BitSet();
+        expected.set(2, 4);
+        Assertions.assertEquals(expected, bookingIntervalIndex.getBusyHours(1, past, past.plusHours(10)));
+    }
+
+    @Test
+    void getBusyHoursAcrossCurrentHour() {
+
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+        Mockito.when(bookingRepository.findAllIntervalsByItemId(1, BookingIntervalIndex.ACTIVE_STATUSES, currentHour))
+                .thenReturn(List.of(new BookingInterval(2, currentHour.plusHours(1), currentHour.plusHours(2))));
+        Mockito.when(bookingRepository.findAllIntervalsByItemIdBetween(1, BookingIntervalIndex.ACTIVE_STATUSES, currentHour.minusHours(3), currentHour))
+                .thenReturn(List.of(new BookingInterval(1, currentHour.minusHours(2), currentHour.minusHours(1))));
+
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(4);
+        Assertions.assertEquals(expected, bookingIntervalIndex.getBusyHours(1, currentHour.minusHours(3), currentHour.plusHours(3)));
+
+        Assertions.assertEquals(new BitSet(), bookingIntervalIndex.getBusyHours(1, currentHour, currentHour.plusHours(1)));
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findAllIntervalsByItemIdBetween(Mockito.anyInt(), Mockito.anyCollection(), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class));
+    }
+}
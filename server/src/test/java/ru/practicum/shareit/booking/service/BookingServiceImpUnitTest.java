@@ -7,19 +7,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingSliceDto;
 import ru.practicum.shareit.booking.exception.*;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.schedule.BookingIntervalIndex;
 import ru.practicum.shareit.booking.storage.BookingRepository;
+import ru.practicum.shareit.cache.OwnerCache;
+import ru.practicum.shareit.cache.OwnerCacheProperties;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserRepository;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +42,9 @@ class BookingServiceImpUnitTest {
     UserRepository userRepository;
     @Mock
     ItemRepository itemRepository;
+    @Mock
+    BookingIntervalIndex bookingIntervalIndex;
+    OwnerCache ownerCache = new OwnerCache(new OwnerCacheProperties());
 
     BookingService bookingService;
     static final LocalDateTime START = LocalDateTime.of(2024, 10, 20, 22, 21);
@@ -41,7 +52,7 @@ class BookingServiceImpUnitTest {
 
     @BeforeEach
     void generator() {
-        bookingService = new BookingServiceImpl(bookingRepository, userRepository, itemRepository);
+        bookingService = new BookingServiceImpl(bookingRepository, userRepository, itemRepository, bookingIntervalIndex, ownerCache);
     }
 
     @Test
@@ -83,12 +94,77 @@ class BookingServiceImpUnitTest {
         Mockito.when(itemRepository.findItemById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(1, "Viktor B", "vitekb650@gmail.com"))));
 
+        Mockito.when(bookingIntervalIndex.isFree(1, START, END))
+                .thenReturn(true);
+
         Mockito.when(bookingRepository.save(Mockito.any(Booking.class)))
                 .thenReturn(new Booking(1, START, END, new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(3, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.WAITING));
 
         BookingDto bookingDtoAfterWork = bookingService.postBooking(5, bookingDtoBeforeWork);
 
         Assertions.assertEquals(bookingDtoBeforeWork, bookingDtoAfterWork);
+
+        Mockito.verify(bookingIntervalIndex, Mockito.times(1))
+                .updateBooking(Mockito.any(Booking.class));
+    }
+
+    @Test
+    void postBookingThrowsBookingTimeConflictException() {
+
+        BookingDto bookingDto = new BookingDto(1, 1, START, END, new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(3, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.WAITING);
+
+        Mockito.when(userRepository.findUserById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new User(5, "Viktor B", "vitekb650@gmail.com")));
+
+        Mockito.when(itemRepository.findItemById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(1, "Viktor B", "vitekb650@gmail.com"))));
+
+        Mockito.when(bookingIntervalIndex.isFree(1, START, END))
+                .thenReturn(false);
+
+        Assertions.assertThrows(BookingTimeConflictException.class, () -> bookingService.postBooking(5, bookingDto));
+        Mockito.verify(bookingRepository, Mockito.never())
+                .save(Mockito.any(Booking.class));
+    }
+
+    @Test
+    void postBookingThrowsBookingTimeConflictExceptionOnOverlapConstraint() {
+
+        BookingDto bookingDto = new BookingDto(1, 1, START, END, new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(3, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.WAITING);
+
+        Mockito.when(userRepository.findUserById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new User(5, "Viktor B", "vitekb650@gmail.com")));
+
+        Mockito.when(itemRepository.findItemById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(1, "Viktor B", "vitekb650@gmail.com"))));
+
+        Mockito.when(bookingIntervalIndex.isFree(1, START, END))
+                .thenReturn(true);
+
+        Mockito.when(bookingRepository.save(Mockito.any(Booking.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", new SQLException("conflicting key value violates exclusion constraint", "23P01")));
+
+        Assertions.assertThrows(BookingTimeConflictException.class, () -> bookingService.postBooking(5, bookingDto));
+    }
+
+    @Test
+    void postBookingRethrowsOtherDataIntegrityViolations() {
+
+        BookingDto bookingDto = new BookingDto(1, 1, START, END, new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(3, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.WAITING);
+
+        Mockito.when(userRepository.findUserById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new User(5, "Viktor B", "vitekb650@gmail.com")));
+
+        Mockito.when(itemRepository.findItemById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(1, "Viktor B", "vitekb650@gmail.com"))));
+
+        Mockito.when(bookingIntervalIndex.isFree(1, START, END))
+                .thenReturn(true);
+
+        Mockito.when(bookingRepository.save(Mockito.any(Booking.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", new SQLException("foreign key violation", "23503")));
+
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> bookingService.postBooking(5, bookingDto));
     }
 
     @Test
@@ -168,13 +244,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByBookerIdOrderByStartDesc(Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getItemsThatIBooked("ALL", 1, 0, 5);
 
@@ -198,13 +274,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByStartBeforeAndEndAfterAndBookerId(Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getItemsThatIBooked("CURRENT", 1, 0, 5);
 
@@ -228,13 +304,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByEndIsBeforeAndBookerIdOrderByStartDesc(Mockito.any(LocalDateTime.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getItemsThatIBooked("PAST", 1, 0, 5);
 
@@ -258,13 +334,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByStartIsAfterAndBookerIdOrderByStartDesc(Mockito.any(LocalDateTime.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getItemsThatIBooked("FUTURE", 1, 0, 5);
 
@@ -288,13 +364,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByStatusAndBookerIdOrderByStartDesc(Mockito.any(BookingStatus.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getItemsThatIBooked("WAITING", 1, 0, 5);
 
@@ -318,13 +394,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByStatusAndBookerIdOrderByStartDesc(Mockito.any(BookingStatus.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getItemsThatIBooked("REJECTED", 1, 0, 5);
 
@@ -357,19 +433,48 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByItem_OwnerIdOrderByStartDesc(Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getBookingsOfMyItems("ALL", 1, 0, 5);
 
         Assertions.assertEquals(bookingDtoListBeforeWork, bookingDtoListAfterWork);
     }
 
+    @Test
+    void getBookingsOfMyItemsCachesOnlyTimeIndependentStates() {
+
+        OwnerCacheProperties ownerCacheProperties = new OwnerCacheProperties();
+        ownerCacheProperties.setEnabled(true);
+        bookingService = new BookingServiceImpl(bookingRepository, userRepository, itemRepository, bookingIntervalIndex, new OwnerCache(ownerCacheProperties));
+
+        Slice<Booking> bookingsSlice = new SliceImpl<>(List.of(new Booking(1, START, END, new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(3, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.APPROVED)));
+
+        Mockito.when(userRepository.findUserById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
+
+        Mockito.when(bookingRepository.findAllByItem_OwnerIdOrderByStartDesc(Mockito.anyInt(), Mockito.any(PageRequest.class)))
+                .thenReturn(bookingsSlice);
+
+        Mockito.when(bookingRepository.findAllByStartIsAfterAndItem_OwnerIdOrderByStartDesc(Mockito.any(LocalDateTime.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
+                .thenReturn(bookingsSlice);
+
+        bookingService.getBookingsOfMyItems("ALL", 1, 0, 5);
+        bookingService.getBookingsOfMyItems("ALL", 1, 0, 5);
+        bookingService.getBookingsOfMyItems("FUTURE", 1, 0, 5);
+        bookingService.getBookingsOfMyItems("FUTURE", 1, 0, 5);
+
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findAllByItem_OwnerIdOrderByStartDesc(Mockito.anyInt(), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(2))
+                .findAllByStartIsAfterAndItem_OwnerIdOrderByStartDesc(Mockito.any(LocalDateTime.class), Mockito.anyInt(), Mockito.any(PageRequest.class));
+    }
+
     @Test
     void getBookingsOfMyItemsCurrent() {
 
@@ -387,13 +492,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByStartBeforeAndEndAfterAndItem_OwnerId(Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getBookingsOfMyItems("CURRENT", 1, 0, 5);
 
@@ -417,13 +522,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByEndIsBeforeAndItem_OwnerIdOrderByStartDesc(Mockito.any(LocalDateTime.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getBookingsOfMyItems("PAST", 1, 0, 5);
 
@@ -447,13 +552,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByStartIsAfterAndItem_OwnerIdOrderByStartDesc(Mockito.any(LocalDateTime.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getBookingsOfMyItems("FUTURE", 1, 0, 5);
 
@@ -477,13 +582,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByStatusAndItem_OwnerIdOrderByStartDesc(Mockito.any(BookingStatus.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getBookingsOfMyItems("WAITING", 1, 0, 5);
 
@@ -507,13 +612,13 @@ class BookingServiceImpUnitTest {
         bookings.add(bookingBeforeWork1);
         bookings.add(bookingBeforeWork2);
 
-        Page<Booking> bookingsPage = new PageImpl<>(bookings);
+        Slice<Booking> bookingsSlice = new SliceImpl<>(bookings);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(bookingRepository.findAllByStatusAndItem_OwnerIdOrderByStartDesc(Mockito.any(BookingStatus.class), Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(bookingsPage);
+                .thenReturn(bookingsSlice);
 
         List<BookingDto> bookingDtoListAfterWork = bookingService.getBookingsOfMyItems("REJECTED", 1, 0, 5);
 
@@ -528,4 +633,52 @@ class BookingServiceImpUnitTest {
 
         Assertions.assertThrows(BookingStateException.class, () -> bookingService.getBookingsOfMyItems("ERROR", 1, 0, 5));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItemsThatIBookedByCursor() {
+
+        Booking bookingBeforeWork1 = new Booking(2, START, END, new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(3, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.APPROVED);
+        Booking bookingBeforeWork2 = new Booking(1, START, END, new Item(2, "Дрелька", "Базированная дрелька", Boolean.TRUE, new User(3, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.APPROVED);
+        BookingCursor cursor = new BookingCursor(END, 5);
+
+        Mockito.when(userRepository.findUserById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new User(2, "Kick", "kick@gmail.com")));
+
+        Mockito.when(bookingRepository.findAllByBookerIdAfterCursor(Mockito.eq(2), Mockito.eq(BookingState.ALL), Mockito.any(LocalDateTime.class), Mockito.eq(cursor), Mockito.eq(2)))
+                .thenReturn(new SliceImpl<>(List.of(bookingBeforeWork1, bookingBeforeWork2), PageRequest.of(0, 2), true));
+
+        BookingSliceDto bookingSliceDto = bookingService.getItemsThatIBookedByCursor("ALL", 2, cursor.encode(), 2);
+
+        Assertions.assertEquals(2, bookingSliceDto.getBookings().size());
+        Assertions.assertEquals(BookingCursor.of(bookingBeforeWork2), BookingCursor.decode(bookingSliceDto.getNextCursor()));
+    }
+
+    @Test
+    void getBookingsOfMyItemsByCursorWithoutNextCursor() {
+
+        Booking bookingBeforeWork = new Booking(1, START, END, new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(3, "Viktor B", "vitekb650@gmail.com")), new User(2, "Kick", "kick@gmail.com"), BookingStatus.WAITING);
+
+        Mockito.when(userRepository.findUserById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new User(3, "Viktor B", "vitekb650@gmail.com")));
+
+        Mockito.when(bookingRepository.findAllByItemOwnerIdAfterCursor(Mockito.eq(3), Mockito.eq(BookingState.WAITING), Mockito.any(LocalDateTime.class), Mockito.isNull(), Mockito.eq(5)))
+                .thenReturn(new SliceImpl<>(List.of(bookingBeforeWork), PageRequest.of(0, 5), false));
+
+        BookingSliceDto bookingSliceDto = bookingService.getBookingsOfMyItemsByCursor("WAITING", 3, null, 5);
+
+        Assertions.assertEquals(1, bookingSliceDto.getBookings().size());
+        Assertions.assertNull(bookingSliceDto.getNextCursor());
+    }
+
+    @Test
+    void getItemsThatIBookedByCursorThrowsBookingCursorException() {
+
+        Assertions.assertThrows(BookingCursorException.class, () -> bookingService.getItemsThatIBookedByCursor("ALL", 1, "not a cursor", 5));
+    }
+
+    @Test
+    void getBookingsOfMyItemsByCursorThrowsBookingStateException() {
+
+        Assertions.assertThrows(BookingStateException.class, () -> bookingService.getBookingsOfMyItemsByCursor("ERROR", 1, null, 5));
+    }
+}
@@ -5,16 +5,26 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingInterval;
+import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemNearestBooking;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Transactional
 @DataJpaTest
@@ -80,4 +90,128 @@ class BookingRepositoryTest {
         Assertions.assertEquals(bookingPosted2, booking);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void findLastAndNextByItemIdIn() {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        User userPostedOwner = userRepository.save(new User(1, "Viktor B", "vitekb650@gmail.com"));
+        User userPostedBooker1 = userRepository.save(new User(2, "Kick", "Kick@gmail.com"));
+        User userPostedBooker2 = userRepository.save(new User(3, "Ron", "Ronaldo@gmail.com"));
+
+        Item itemPosted1 = itemRepository.save(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, userPostedOwner));
+        Item itemPosted2 = itemRepository.save(new Item(2, "Отвертка", "Базированная отвертка", Boolean.TRUE, userPostedOwner));
+
+        bookingRepository.save(new Booking(1, now.minusDays(10), now.minusDays(9), itemPosted1, userPostedBooker1, BookingStatus.APPROVED));
+        Booking lastBooking = bookingRepository.save(new Booking(2, now.minusDays(5), now.minusDays(4), itemPosted1, userPostedBooker2, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(3, now.minusDays(1), now.plusDays(1), itemPosted1, userPostedBooker1, BookingStatus.REJECTED));
+        Booking nextBooking = bookingRepository.save(new Booking(4, now.plusDays(2), now.plusDays(3), itemPosted1, userPostedBooker1, BookingStatus.WAITING));
+        bookingRepository.save(new Booking(5, now.plusDays(7), now.plusDays(8), itemPosted1, userPostedBooker2, BookingStatus.APPROVED));
+        Booking nextBookingOfSecondItem = bookingRepository.save(new Booking(6, now.plusDays(1), now.plusDays(2), itemPosted2, userPostedBooker2, BookingStatus.APPROVED));
+
+        List<ItemNearestBooking> bookings = bookingRepository.findLastAndNextByItemIdIn(List.of(itemPosted1.getId(), itemPosted2.getId()), BookingStatus.REJECTED.name(), now);
+
+        Map<Integer, ItemNearestBooking> lastBookings = bookings.stream()
+                .filter(ItemNearestBooking::isLast)
+                .collect(Collectors.toMap(ItemNearestBooking::getItemId, Function.identity()));
+        Map<Integer, ItemNearestBooking> nextBookings = bookings.stream()
+                .filter(booking -> !booking.isLast())
+                .collect(Collectors.toMap(ItemNearestBooking::getItemId, Function.identity()));
+
+        Assertions.assertEquals(3, bookings.size());
+        Assertions.assertEquals(lastBooking.getId(), lastBookings.get(itemPosted1.getId()).getId());
+        Assertions.assertEquals(userPostedBooker2.getId(), lastBookings.get(itemPosted1.getId()).getBookerId());
+        Assertions.assertEquals(nextBooking.getId(), nextBookings.get(itemPosted1.getId()).getId());
+        Assertions.assertEquals(nextBookingOfSecondItem.getId(), nextBookings.get(itemPosted2.getId()).getId());
+        Assertions.assertNull(lastBookings.get(itemPosted2.getId()));
+    }
+
+    @Test
+    void findAllByBookerIdAfterCursor() {
+
+        User userPostedOwner = userRepository.save(new User(1, "Viktor B", "vitekb650@gmail.com"));
+        User userPostedBooker = userRepository.save(new User(2, "Kick", "Kick@gmail.com"));
+
+        Item itemPosted1 = itemRepository.save(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, userPostedOwner));
+        Item itemPosted2 = itemRepository.save(new Item(2, "Дрелька", "Базированная дрелька", Boolean.TRUE, userPostedOwner));
+
+        Booking bookingPosted1 = bookingRepository.save(new Booking(1, START_1, START_1.plusDays(3), itemPosted1, userPostedBooker, BookingStatus.APPROVED));
+        Booking bookingPosted2 = bookingRepository.save(new Booking(2, START_2, START_2.plusDays(3), itemPosted1, userPostedBooker, BookingStatus.APPROVED));
+        Booking bookingPosted3 = bookingRepository.save(new Booking(3, START_2, START_2.plusDays(3), itemPosted2, userPostedBooker, BookingStatus.WAITING));
+
+        Slice<Booking> firstSlice = bookingRepository.findAllByBookerIdAfterCursor(userPostedBooker.getId(), BookingState.ALL, START_2, null, 2);
+
+        Assertions.assertTrue(firstSlice.hasNext());
+        Assertions.assertEquals(List.of(bookingPosted3.getId(), bookingPosted2.getId()),
+                firstSlice.getContent().stream().map(Booking::getId).collect(Collectors.toList()));
+
+        Slice<Booking> secondSlice = bookingRepository.findAllByBookerIdAfterCursor(userPostedBooker.getId(), BookingState.ALL, START_2, BookingCursor.of(bookingPosted2), 2);
+
+        Assertions.assertFalse(secondSlice.hasNext());
+        Assertions.assertEquals(List.of(bookingPosted1.getId()),
+                secondSlice.getContent().stream().map(Booking::getId).collect(Collectors.toList()));
+
+        Slice<Booking> ownerSlice = bookingRepository.findAllByItemOwnerIdAfterCursor(userPostedOwner.getId(), BookingState.WAITING, START_2, null, 2);
+
+        Assertions.assertFalse(ownerSlice.hasNext());
+        Assertions.assertEquals(List.of(bookingPosted3.getId()),
+                ownerSlice.getContent().stream().map(Booking::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void findAllByBookerIdAfterCursorWithTooLargeSize() {
+
+        User userPostedOwner = userRepository.save(new User(1, "Viktor B", "vitekb650@gmail.com"));
+        User userPostedBooker = userRepository.save(new User(2, "Kick", "Kick@gmail.com"));
+
+        Item itemPosted = itemRepository.save(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, userPostedOwner));
+
+        Booking bookingPosted = bookingRepository.save(new Booking(1, START_1, START_1.plusDays(3), itemPosted, userPostedBooker, BookingStatus.APPROVED));
+
+        Slice<Booking> slice = bookingRepository.findAllByBookerIdAfterCursor(userPostedBooker.getId(), BookingState.ALL, START_2, null, Integer.MAX_VALUE);
+
+        Assertions.assertFalse(slice.hasNext());
+        Assertions.assertEquals(100, slice.getSize());
+        Assertions.assertEquals(List.of(bookingPosted.getId()),
+                slice.getContent().stream().map(Booking::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void findItemIdsByBookerIdOrOwnerId() {
+
+        User userPostedOwner1 = userRepository.save(new User(1, "Viktor B", "vitekb650@gmail.com"));
+        User userPostedOwner2 = userRepository.save(new User(2, "Ron", "Ronaldo@gmail.com"));
+        User userPostedBooker = userRepository.save(new User(3, "Kick", "Kick@gmail.com"));
+
+        Item itemPosted1 = itemRepository.save(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, userPostedOwner1));
+        Item itemPosted2 = itemRepository.save(new Item(2, "Пила", "Циркулярная пила", Boolean.TRUE, userPostedOwner2));
+
+        bookingRepository.save(new Booking(1, START_1, START_1.plusDays(3), itemPosted1, userPostedBooker, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(2, START_2, START_2.plusDays(3), itemPosted1, userPostedBooker, BookingStatus.WAITING));
+        bookingRepository.save(new Booking(3, START_2, START_2.plusDays(3), itemPosted2, userPostedBooker, BookingStatus.WAITING));
+
+        Assertions.assertEquals(List.of(itemPosted1.getId()), bookingRepository.findItemIdsByBookerIdOrOwnerId(userPostedOwner1.getId()));
+        Assertions.assertEquals(Set.of(itemPosted1.getId(), itemPosted2.getId()),
+                Set.copyOf(bookingRepository.findItemIdsByBookerIdOrOwnerId(userPostedBooker.getId())));
+    }
+
+    @Test
+    void findAllIntervalsByItemIdBetween() {
+
+        User userPostedOwner = userRepository.save(new User(1, "Viktor B", "vitekb650@gmail.com"));
+        User userPostedBooker = userRepository.save(new User(2, "Kick", "Kick@gmail.com"));
+
+        Item itemPosted = itemRepository.save(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, userPostedOwner));
+
+        Booking bookingPosted1 = bookingRepository.save(new Booking(1, START_1, START_1.plusDays(3), itemPosted, userPostedBooker, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(2, START_1.plusDays(1), START_1.plusDays(2), itemPosted, userPostedBooker, BookingStatus.REJECTED));
+        bookingRepository.save(new Booking(3, START_1.plusDays(5), START_1.plusDays(6), itemPosted, userPostedBooker, BookingStatus.APPROVED));
+
+        List<BookingInterval> intervals = bookingRepository.findAllIntervalsByItemIdBetween(itemPosted.getId(),
+                List.of(BookingStatus.WAITING, BookingStatus.APPROVED), START_1.plusDays(1), START_1.plusDays(5));
+
+        Assertions.assertEquals(List.of(bookingPosted1.getId()),
+                intervals.stream().map(BookingInterval::getId).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class OwnerCacheUnitTest {
+
+    OwnerCacheProperties properties;
+    OwnerCache ownerCache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void generator() {
+        properties = new OwnerCacheProperties();
+        properties.setEnabled(true);
+        ownerCache = new OwnerCache(properties);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getLoadsOnce() {
+
+        List<Integer> first = ownerCache.get(1, "items:0:10", this::load);
+        List<Integer> second = ownerCache.get(1, "items:0:10", this::load);
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    void evictRemovesOnlyOwnerEntries() {
+
+        ownerCache.get(1, "items:0:10", this::load);
+        ownerCache.get(11, "items:0:10", this::load);
+
+        ownerCache.evict(1);
+        ownerCache.get(1, "items:0:10", this::load);
+        ownerCache.get(11, "items:0:10", this::load);
+
+        Assertions.assertEquals(3, loads.get());
+    }
+
+    @Test
+    void clearRemovesAllEntries() {
+
+        ownerCache.get(1, "items:0:10", this::load);
+        ownerCache.get(2, "bookings:ALL:0:10", this::load);
+
+        ownerCache.clear();
+        ownerCache.get(1, "items:0:10", this::load);
+        ownerCache.get(2, "bookings:ALL:0:10", this::load);
+
+        Assertions.assertEquals(4, loads.get());
+    }
+
+    @Test
+    void getWhenDisabledAlwaysLoads() {
+        properties.setEnabled(false);
+        ownerCache = new OwnerCache(properties);
+
+        ownerCache.get(1, "items:0:10", this::load);
+        ownerCache.get(1, "items:0:10", this::load);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private List<Integer> load() {
+        return List.of(loads.incrementAndGet());
+    }
+}
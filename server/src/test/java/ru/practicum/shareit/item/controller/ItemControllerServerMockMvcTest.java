@@ -8,9 +8,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.AvailabilitySlotDto;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.dto.ItemIdsDto;
+import ru.practicum.shareit.item.dto.ItemImportDto;
 import ru.practicum.shareit.item.exception.CommentNotFoundException;
 import ru.practicum.shareit.item.exception.ItemNotFoundException;
 import ru.practicum.shareit.item.exception.WrongIdException;
@@ -18,6 +22,8 @@ import ru.practicum.shareit.item.service.ItemService;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -157,6 +163,54 @@ class ItemControllerServerMockMvcTest {
                 .deleteItemById(1);
     }
 
+    @Test
+    void getItemsByIds() throws Exception {
+
+        Mockito.when(itemService.getItemsByIds(Mockito.anyInt(), Mockito.anyList()))
+                .thenReturn(List.of(new ItemDtoWithBooking(2, "Дрелька", "Базированная дрелька", Boolean.TRUE, 1, null, null, null), new ItemDtoWithBooking(1, "Дрель", "Базированная дрель", Boolean.TRUE, 1, null, null, null)));
+
+        mvc.perform(post("/items/batch-get")
+                        .header("X-Sharer-User-Id", 1)
+                        .content(objectMapper.writeValueAsString(new ItemIdsDto(List.of(2, 1))))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(2)))
+                .andExpect(jsonPath("$[1].id", is(1)));
+
+        Mockito.verify(itemService, Mockito.times(1))
+                .getItemsByIds(1, List.of(2, 1));
+    }
+
+    @Test
+    void importItems() throws Exception {
+
+        ItemDto itemDto1 = new ItemDto(0, "Дрель", "Базированная дрель", Boolean.TRUE, 0, null, null);
+        ItemDto itemDto2 = new ItemDto(0, "Дрелька", "Базированная дрелька", Boolean.TRUE, 0, null, 1);
+        List<ItemDto> importedItems = new ArrayList<>();
+
+        when(itemService.importItems(Mockito.anyInt(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    Iterator<ItemDto> itemDtos = invocation.getArgument(1);
+                    itemDtos.forEachRemaining(importedItems::add);
+                    return new ItemImportDto(2, List.of(1, 2));
+                });
+
+        mvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", 1)
+                        .content(objectMapper.writeValueAsString(itemDto1) + "\n" + objectMapper.writeValueAsString(itemDto2) + "\n")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.ids[0]", is(1)))
+                .andExpect(jsonPath("$.ids[1]", is(2)));
+
+        assertEquals(List.of(itemDto1, itemDto2), importedItems);
+    }
+
     @Test
     void getAllItems() throws Exception {
 
@@ -254,4 +308,24 @@ class ItemControllerServerMockMvcTest {
                 .andExpect(result -> assertEquals("Booking not found", Objects.requireNonNull(result.getResolvedException()).getMessage()));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItemAvailability() throws Exception {
+
+        ItemAvailabilityDto itemAvailabilityDto = new ItemAvailabilityDto(1, DATE, DATE.plusHours(3),
+                List.of(new AvailabilitySlotDto(DATE, DATE.plusHours(1), true), new AvailabilitySlotDto(DATE.plusHours(1), DATE.plusHours(3), false)));
+
+        when(itemService.getItemAvailability(1, DATE, DATE.plusHours(3)))
+                .thenReturn(itemAvailabilityDto);
+
+        mvc.perform(get("/items/{itemId}/availability", 1)
+                        .param("from", DATE.toString())
+                        .param("to", DATE.plusHours(3).toString())
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId", is(itemAvailabilityDto.getItemId())))
+                .andExpect(jsonPath("$.slots[0].free", is(true)))
+                .andExpect(jsonPath("$.slots[1].free", is(false)));
+    }
+}
@@ -0,0 +1,150 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@ExtendWith(MockitoExtension.class)
+class NgramItemSearchEngineUnitTest {
+
+    @Mock
+    ItemRepository itemRepository;
+
+    NgramItemSearchEngine itemSearchEngine;
+
+    static final User OWNER = new User(1, "Viktor B", "vitekb650@gmail.com");
+
+    @BeforeEach
+    void generator() {
+        itemSearchEngine = new NgramItemSearchEngine(itemRepository, new SearchProperties());
+
+        Mockito.when(itemRepository.findAllByAvailableTrue())
+                .thenReturn(List.of(new Item(1, "Отвертка", "Аккумуляторная дрель-отвертка", Boolean.TRUE, OWNER),
+                        new Item(2, "Дрель", "Базированная дрель", Boolean.TRUE, OWNER),
+                        new Item(3, "Пила", "Циркулярная пила", Boolean.TRUE, OWNER)));
+
+        itemSearchEngine.loadItems();
+    }
+
+    @Test
+    void searchItemIdsRanksNameMatchesFirst() {
+        Assertions.assertEquals(List.of(2, 1), itemSearchEngine.searchItemIds("ДРЕЛЬ", 0, 10));
+    }
+
+    @Test
+    void searchItemIdsWithShortText() {
+        Assertions.assertEquals(List.of(3), itemSearchEngine.searchItemIds("пи", 0, 10));
+    }
+
+    @Test
+    void searchItemIdsWithSingleCharacter() {
+        Assertions.assertEquals(List.of(2, 1), itemSearchEngine.searchItemIds("Д", 0, 10));
+        Assertions.assertEquals(List.of(), itemSearchEngine.searchItemIds("ж", 0, 10));
+    }
+
+    @Test
+    void searchItemIdsWithPaging() {
+        Assertions.assertEquals(List.of(1), itemSearchEngine.searchItemIds("дрель", 1, 1));
+    }
+
+    @Test
+    void searchItemIdsWithoutMatches() {
+        Assertions.assertEquals(List.of(), itemSearchEngine.searchItemIds("молоток", 0, 10));
+    }
+
+    @Test
+    void indexItem() {
+        itemSearchEngine.indexItem(new Item(4, "Перфоратор", "Мощнее, чем дрель", Boolean.TRUE, OWNER));
+        itemSearchEngine.indexItem(new Item(2, "Шуруповерт", "Совсем не сверлит", Boolean.TRUE, OWNER));
+
+        Assertions.assertEquals(List.of(1, 4), itemSearchEngine.searchItemIds("дрель", 0, 10));
+        Assertions.assertEquals(List.of(2), itemSearchEngine.searchItemIds("шуруп", 0, 10));
+    }
+
+    @Test
+    void indexItemNotAvailable() {
+        itemSearchEngine.indexItem(new Item(2, "Дрель", "Базированная дрель", Boolean.FALSE, OWNER));
+
+        Assertions.assertEquals(List.of(1), itemSearchEngine.searchItemIds("дрель", 0, 10));
+    }
+
+    @Test
+    void removeItem() {
+        itemSearchEngine.removeItem(1);
+
+        Assertions.assertEquals(List.of(2), itemSearchEngine.searchItemIds("дрель", 0, 10));
+    }
+
+    @Test
+    void loadItemsReplaysWritesMadeDuringLoad() {
+        Mockito.when(itemRepository.findAllByAvailableTrue())
+                .thenAnswer(invocation -> {
+                    itemSearchEngine.indexItem(new Item(4, "Перфоратор", "Мощнее, чем дрель", Boolean.TRUE, OWNER));
+                    itemSearchEngine.removeItem(2);
+                    return List.of(new Item(1, "Отвертка", "Аккумуляторная дрель-отвертка", Boolean.TRUE, OWNER),
+                            new Item(2, "Дрель", "Базированная дрель", Boolean.TRUE, OWNER));
+                });
+
+        itemSearchEngine.loadItems();
+
+        Assertions.assertEquals(List.of(1, 4), itemSearchEngine.searchItemIds("дрель", 0, 10));
+    }
+
+    @Test
+    void indexItemInTransactionIsVisibleToOthersAfterCommit() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            itemSearchEngine.indexItem(new Item(4, "Перфоратор", "Мощнее, чем дрель", Boolean.TRUE, OWNER));
+            itemSearchEngine.removeItem(1);
+
+            Assertions.assertEquals(List.of(2, 4), itemSearchEngine.searchItemIds("дрель", 0, 10));
+            Assertions.assertEquals(List.of(2, 1), searchInOtherTransaction("дрель"));
+
+            completeTransaction(true);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(List.of(2, 4), searchInOtherTransaction("дрель"));
+    }
+
+    @Test
+    void indexItemInTransactionIsDiscardedOnRollback() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            itemSearchEngine.indexItem(new Item(4, "Перфоратор", "Мощнее, чем дрель", Boolean.TRUE, OWNER));
+
+            completeTransaction(false);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(List.of(2, 1), itemSearchEngine.searchItemIds("дрель", 0, 10));
+    }
+
+    private List<Integer> searchInOtherTransaction(String text) throws Exception {
+        return CompletableFuture.supplyAsync(() -> itemSearchEngine.searchItemIds(text, 0, 10)).get();
+    }
+
+    private static void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(committed
+                ? TransactionSynchronization.STATUS_COMMITTED
+                : TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+}
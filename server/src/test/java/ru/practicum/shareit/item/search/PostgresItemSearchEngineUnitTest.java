@@ -0,0 +1,51 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.storage.ItemRepository;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresItemSearchEngineUnitTest {
+
+    @Mock
+    ItemRepository itemRepository;
+
+    PostgresItemSearchEngine itemSearchEngine;
+
+    @BeforeEach
+    void generator() {
+        itemSearchEngine = new PostgresItemSearchEngine(itemRepository);
+    }
+
+    @Test
+    void createTextQuery() {
+        Assertions.assertEquals("дрель:* & ударная:*", PostgresItemSearchEngine.createTextQuery("  Дрель, ударная!"));
+        Assertions.assertEquals("", PostgresItemSearchEngine.createTextQuery("&|!"));
+    }
+
+    @Test
+    void searchItemIds() {
+        Mockito.when(itemRepository.findAllAvailableIdsByTextQuery(Mockito.anyString(), Mockito.any(PageRequest.class)))
+                .thenReturn(List.of(2, 1));
+
+        Assertions.assertEquals(List.of(2, 1), itemSearchEngine.searchItemIds("дрель", 10, 5));
+
+        Mockito.verify(itemRepository, Mockito.times(1))
+                .findAllAvailableIdsByTextQuery(Mockito.eq("дрель:*"), Mockito.eq(PageRequest.of(2, 5)));
+    }
+
+    @Test
+    void searchItemIdsWithoutWords() {
+        Assertions.assertEquals(List.of(), itemSearchEngine.searchItemIds("!!!", 0, 5));
+
+        Mockito.verifyNoInteractions(itemRepository);
+    }
+}
@@ -7,22 +7,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.schedule.BookingIntervalIndex;
 import ru.practicum.shareit.booking.storage.BookingRepository;
+import ru.practicum.shareit.cache.OwnerCache;
+import ru.practicum.shareit.cache.OwnerCacheProperties;
+import ru.practicum.shareit.item.dto.AvailabilitySlotDto;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.dto.ItemImportDto;
 import ru.practicum.shareit.item.exception.CommentNotFoundException;
 import ru.practicum.shareit.item.exception.ItemNotFoundException;
 import ru.practicum.shareit.item.exception.WrongIdException;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.item.storage.CommentRepository;
 import ru.practicum.shareit.item.storage.ItemRepository;
+import ru.practicum.shareit.request.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.request.model.ItemItemRequestConnection;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.storage.ItemItemRequestConnectionRepository;
@@ -32,9 +40,13 @@ import ru.practicum.shareit.user.storage.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @ExtendWith(MockitoExtension.class)
 class ItemServiceImplUnitTest {
@@ -51,13 +63,18 @@ class ItemServiceImplUnitTest {
     ItemRequestRepository itemRequestRepository;
     @Mock
     ItemItemRequestConnectionRepository itemItemRequestConnectionRepository;
+    @Mock
+    ItemSearchEngine itemSearchEngine;
+    @Mock
+    BookingIntervalIndex bookingIntervalIndex;
+    OwnerCache ownerCache = new OwnerCache(new OwnerCacheProperties());
 
     ItemService itemService;
     static final LocalDateTime DATE = LocalDateTime.of(2023, 10, 20, 14, 37);
 
     @BeforeEach
     void generator() {
-        itemService = new ItemServiceImpl(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository, itemItemRequestConnectionRepository);
+        itemService = new ItemServiceImpl(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository, itemItemRequestConnectionRepository, itemSearchEngine, bookingIntervalIndex, ownerCache);
     }
 
     @Test
@@ -96,6 +113,58 @@ class ItemServiceImplUnitTest {
         Assertions.assertEquals(itemDtoBeforeWork, itemDtoAfterWork);
     }
 
+    @Test
+    void importItems() {
+        List<ItemDto> itemDtos = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            itemDtos.add(new ItemDto(0, "Дрель" + i, "Базированная дрель", Boolean.TRUE, 0, null, i < 2 ? 1 : null));
+        }
+        List<Integer> batchSizes = new ArrayList<>();
+        AtomicInteger nextId = new AtomicInteger(1);
+
+        Mockito.when(userRepository.findUserById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
+
+        Mockito.when(itemRequestRepository.findItemRequestById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new ItemRequest(1, "Хочу дрель", DATE, new User(2, "Kick", "kick@gmail.com"))));
+
+        Mockito.doAnswer(invocation -> {
+            List<Item> items = invocation.getArgument(0);
+            items.forEach(item -> item.setId(nextId.getAndIncrement()));
+            batchSizes.add(items.size());
+            return null;
+        }).when(itemRepository).persistInBatch(Mockito.anyList());
+
+        ItemImportDto itemImportDto = itemService.importItems(1, itemDtos.iterator());
+
+        Mockito.verify(itemRequestRepository, Mockito.times(1))
+                .findItemRequestById(1);
+        Mockito.verify(itemItemRequestConnectionRepository, Mockito.times(1))
+                .saveAll(List.of(new ItemItemRequestConnection(0, 1, 1), new ItemItemRequestConnection(0, 2, 1)));
+        Mockito.verify(itemSearchEngine, Mockito.times(60))
+                .indexItem(Mockito.any(Item.class));
+
+        Assertions.assertEquals(List.of(50, 10), batchSizes);
+        Assertions.assertEquals(60, itemImportDto.getImported());
+        Assertions.assertEquals(IntStream.rangeClosed(1, 60).boxed().collect(Collectors.toList()), itemImportDto.getIds());
+    }
+
+    @Test
+    void importItemsThrowsItemRequestNotFoundException() {
+        List<ItemDto> itemDtos = List.of(new ItemDto(0, "Дрель", "Базированная дрель", Boolean.TRUE, 0, null, 1));
+
+        Mockito.when(userRepository.findUserById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
+
+        Mockito.when(itemRequestRepository.findItemRequestById(Mockito.anyInt()))
+                .thenReturn(Optional.empty());
+
+        Assertions.assertThrows(ItemRequestNotFoundException.class, () -> itemService.importItems(1, itemDtos.iterator()));
+
+        Mockito.verify(itemRepository, Mockito.never())
+                .persistInBatch(Mockito.anyList());
+    }
+
     @Test
     void patchItem() {
         ItemDto itemDtoBeforeWork = new ItemDto(1, "Дрелька", "Базированная дрелька", Boolean.TRUE, 1, null, null);
@@ -182,6 +251,8 @@ class ItemServiceImplUnitTest {
 
         Mockito.verify(itemRepository, Mockito.times(1))
                 .deleteById(1);
+        Mockito.verify(itemSearchEngine, Mockito.times(1))
+                .removeItem(1);
     }
 
     @Test
@@ -201,31 +272,91 @@ class ItemServiceImplUnitTest {
         items.add(item1);
         items.add(item2);
 
-        Page<Item> itemsPage = new PageImpl<>(items);
+        Slice<Item> itemsSlice = new SliceImpl<>(items);
 
         Mockito.when(itemRepository.findAllByOwnerIdOrderById(Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(itemsPage);
+                .thenReturn(itemsSlice);
 
-        Mockito.when(bookingRepository.findFirstBookingByItem_IdAndStatusNotAndStartBeforeOrderByStartDesc(Mockito.anyInt(), Mockito.any(BookingStatus.class), Mockito.any(LocalDateTime.class)))
-                .thenReturn(Optional.empty());
-
-        Mockito.when(bookingRepository.findFirstBookingByItem_IdAndStatusNotAndStartAfterOrderByStart(Mockito.anyInt(), Mockito.any(BookingStatus.class), Mockito.any(LocalDateTime.class)))
-                .thenReturn(Optional.empty());
+        Mockito.when(bookingRepository.findLastAndNextByItemIdIn(Mockito.anyCollection(), Mockito.anyString(), Mockito.any(LocalDateTime.class)))
+                .thenReturn(new ArrayList<>());
 
-        Mockito.when(commentRepository.findAllByItemId(Mockito.anyInt()))
+        Mockito.when(commentRepository.findAllByItemIdIn(Mockito.anyCollection()))
                 .thenReturn(new ArrayList<>());
 
         Collection<ItemDtoWithBooking> itemDtoWithBookingCollectionAfterWork = itemService.getAllItems(1, 0, 5);
 
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findLastAndNextByItemIdIn(Mockito.eq(List.of(1, 2)), Mockito.eq(BookingStatus.REJECTED.name()), Mockito.any(LocalDateTime.class));
+
         Assertions.assertEquals(itemDtoWithBookingCollectionAfterWork, itemDtoWithBookingCollectionBeforeWork);
 
     }
 
+    @Test
+    void getAllItemsReloadsNearestBookingsForCachedItems() {
+
+        OwnerCacheProperties ownerCacheProperties = new OwnerCacheProperties();
+        ownerCacheProperties.setEnabled(true);
+        itemService = new ItemServiceImpl(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository, itemItemRequestConnectionRepository, itemSearchEngine, bookingIntervalIndex, new OwnerCache(ownerCacheProperties));
+
+        Slice<Item> itemsSlice = new SliceImpl<>(List.of(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(1, "Viktor B", "vitekb650@gmail.com"))));
+
+        Mockito.when(itemRepository.findAllByOwnerIdOrderById(Mockito.anyInt(), Mockito.any(PageRequest.class)))
+                .thenReturn(itemsSlice);
+
+        Mockito.when(bookingRepository.findLastAndNextByItemIdIn(Mockito.anyCollection(), Mockito.anyString(), Mockito.any(LocalDateTime.class)))
+                .thenReturn(new ArrayList<>());
+
+        Mockito.when(commentRepository.findAllByItemIdIn(Mockito.anyCollection()))
+                .thenReturn(new ArrayList<>());
+
+        itemService.getAllItems(1, 0, 5);
+        itemService.getAllItems(1, 0, 5);
+
+        Mockito.verify(itemRepository, Mockito.times(1))
+                .findAllByOwnerIdOrderById(Mockito.anyInt(), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(2))
+                .findLastAndNextByItemIdIn(Mockito.anyCollection(), Mockito.anyString(), Mockito.any(LocalDateTime.class));
+    }
+
+    @Test
+    void getItemsByIds() {
+        ItemDtoWithBooking itemDtoBeforeWork1 = new ItemDtoWithBooking(1, "Дрель", "Базированная дрель", Boolean.TRUE, 1, null, null, new ArrayList<>());
+        ItemDtoWithBooking itemDtoBeforeWork2 = new ItemDtoWithBooking(2, "Дрель2", "Базированная дрель2", Boolean.TRUE, 2, null, null, List.of(new CommentDto(1, "Норм штука", "Kick", DATE)));
+
+        Item item1 = new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(1, "Viktor B", "vitekb650@gmail.com"));
+        Item item2 = new Item(2, "Дрель2", "Базированная дрель2", Boolean.TRUE, new User(2, "Kick", "kick@gmail.com"));
+
+        Mockito.when(itemRepository.findAllByIdIn(Mockito.anyCollection()))
+                .thenReturn(List.of(item1, item2));
+
+        Mockito.when(bookingRepository.findLastAndNextByItemIdIn(Mockito.anyCollection(), Mockito.anyString(), Mockito.any(LocalDateTime.class)))
+                .thenReturn(new ArrayList<>());
+
+        Mockito.when(commentRepository.findAllByItemIdIn(Mockito.anyCollection()))
+                .thenReturn(List.of(new Comment(1, "Норм штука", item2, new User(2, "Kick", "kick@gmail.com"), DATE)));
+
+        List<ItemDtoWithBooking> itemDtoWithBookingListAfterWork = itemService.getItemsByIds(1, List.of(2, 1, 3, 2));
+
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findLastAndNextByItemIdIn(Mockito.eq(List.of(1)), Mockito.eq(BookingStatus.REJECTED.name()), Mockito.any(LocalDateTime.class));
+
+        Assertions.assertEquals(List.of(itemDtoBeforeWork2, itemDtoBeforeWork1), itemDtoWithBookingListAfterWork);
+    }
+
+    @Test
+    void getItemsByIdsWithoutIds() {
+
+        Assertions.assertEquals(new ArrayList<>(), itemService.getItemsByIds(1, List.of()));
+
+        Mockito.verifyNoInteractions(itemRepository, bookingRepository, commentRepository);
+    }
+
     @Test
     void getSearchedItems() {
 
         ItemDto itemDtoBeforeWork1 = new ItemDto(1, "Дрель", "Базированная дрель", Boolean.TRUE, 1, new ArrayList<>(), null);
-        ItemDto itemDtoBeforeWork2 = new ItemDto(2, "Дрель2", "Базированная дрель2", Boolean.TRUE, 1, new ArrayList<>(), null);
+        ItemDto itemDtoBeforeWork2 = new ItemDto(2, "Дрель2", "Базированная дрель2", Boolean.TRUE, 1, List.of(new CommentDto(1, "Норм штука", "Kick", DATE)), null);
 
         Collection<ItemDto> itemDtoCollectionBeforeWork = new ArrayList<>();
 
@@ -239,13 +370,14 @@ class ItemServiceImplUnitTest {
         items.add(item1);
         items.add(item2);
 
-        Page<Item> itemsPage = new PageImpl<>(items);
+        Mockito.when(itemSearchEngine.searchItemIds(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(List.of(1, 2));
 
-        Mockito.when(itemRepository.findAllByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCaseAndAvailable(Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean(), Mockito.any(PageRequest.class)))
-                .thenReturn(itemsPage);
+        Mockito.when(itemRepository.findAllByIdIn(Mockito.anyCollection()))
+                .thenReturn(items);
 
-        Mockito.when(commentRepository.findAllByItemId(Mockito.anyInt()))
-                .thenReturn(new ArrayList<>());
+        Mockito.when(commentRepository.findAllByItemIdIn(Mockito.anyCollection()))
+                .thenReturn(List.of(new Comment(1, "Норм штука", item2, new User(2, "Kick", "kick@gmail.com"), DATE)));
 
         Collection<ItemDto> itemDtoCollectionAfterWork = itemService.getSearchedItems("Дрель", 0, 5);
 
@@ -291,4 +423,38 @@ class ItemServiceImplUnitTest {
 
         Assertions.assertEquals(commentDtoAfterWork, commentDtoBeforeWork);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItemAvailability() {
+
+        Mockito.when(itemRepository.findItemById(Mockito.anyInt()))
+                .thenReturn(Optional.of(new Item(1, "Дрель", "Базированная дрель", Boolean.TRUE, new User(1, "Viktor B", "vitekb650@gmail.com"))));
+
+        BitSet busyHours = new BitSet();
+        busyHours.set(2, 4);
+
+        LocalDateTime from = DATE.withMinute(0);
+        LocalDateTime to = from.plusHours(6);
+
+        Mockito.when(bookingIntervalIndex.getBusyHours(1, from, to))
+                .thenReturn(busyHours);
+
+        ItemAvailabilityDto itemAvailabilityDto = itemService.getItemAvailability(1, DATE, to.minusMinutes(30));
+
+        Assertions.assertEquals(from, itemAvailabilityDto.getFrom());
+        Assertions.assertEquals(to, itemAvailabilityDto.getTo());
+        Assertions.assertEquals(List.of(
+                new AvailabilitySlotDto(from, from.plusHours(2), true),
+                new AvailabilitySlotDto(from.plusHours(2), from.plusHours(4), false),
+                new AvailabilitySlotDto(from.plusHours(4), to, true)), itemAvailabilityDto.getSlots());
+    }
+
+    @Test
+    void getItemAvailabilityThrowsItemNotFoundException() {
+
+        Mockito.when(itemRepository.findItemById(Mockito.anyInt()))
+                .thenReturn(Optional.empty());
+
+        Assertions.assertThrows(ItemNotFoundException.class, () -> itemService.getItemAvailability(1, DATE, DATE.plusDays(1)));
+    }
+}
@@ -17,6 +17,8 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 @Transactional
 @DataJpaTest
@@ -56,4 +58,43 @@ class ItemRepositoryTest {
 
         Assertions.assertEquals(itemForRequestShouldBe, itemForRequest);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllItemsForRequestByRequestIdIn() {
+
+        User userPostedOwner = userRepository.save(new User(1, "Viktor B", "vitekb650@gmail.com"));
+        User userPostedBooker = userRepository.save(new User(2, "Kick", "Kick@gmail.com"));
+
+        ItemRequest itemRequestPosted1 = itemRequestRepository.save(new ItemRequest(1, "Хончу пива", LocalDateTime.now(), userPostedBooker));
+        ItemRequest itemRequestPosted2 = itemRequestRepository.save(new ItemRequest(2, "Хончу рома", LocalDateTime.now(), userPostedBooker));
+        ItemRequest itemRequestPosted3 = itemRequestRepository.save(new ItemRequest(3, "Хончу дрель", LocalDateTime.now(), userPostedBooker));
+
+        Item itemPosted1 = itemRepository.save(new Item(1, "Пиво", "Базированное пиво", Boolean.TRUE, userPostedOwner));
+        Item itemPosted2 = itemRepository.save(new Item(2, "Ром", "Базированный ром", Boolean.TRUE, userPostedOwner));
+        Item itemPosted3 = itemRepository.save(new Item(3, "Дрель", "Базированная дрель", Boolean.TRUE, userPostedOwner));
+
+        itemItemRequestConnectionRepository.save(new ItemItemRequestConnection(1, itemPosted1.getId(), itemRequestPosted1.getId()));
+        itemItemRequestConnectionRepository.save(new ItemItemRequestConnection(2, itemPosted2.getId(), itemRequestPosted2.getId()));
+        itemItemRequestConnectionRepository.save(new ItemItemRequestConnection(3, itemPosted3.getId(), itemRequestPosted3.getId()));
+
+        List<ItemForRequest> itemsForRequest = itemRepository.findAllItemsForRequestByRequestIdIn(List.of(itemRequestPosted1.getId(), itemRequestPosted2.getId()));
+
+        Assertions.assertEquals(2, itemsForRequest.size());
+        Assertions.assertTrue(itemsForRequest.contains(new ItemForRequest(itemPosted1.getId(), "Пиво", "Базированное пиво", Boolean.TRUE, itemRequestPosted1.getId())));
+        Assertions.assertTrue(itemsForRequest.contains(new ItemForRequest(itemPosted2.getId(), "Ром", "Базированный ром", Boolean.TRUE, itemRequestPosted2.getId())));
+    }
+
+    @Test
+    void findAllIdsByOwnerId() {
+
+        User userPostedOwner1 = userRepository.save(new User(1, "Viktor B", "vitekb650@gmail.com"));
+        User userPostedOwner2 = userRepository.save(new User(2, "Kick", "Kick@gmail.com"));
+
+        Item itemPosted1 = itemRepository.save(new Item(1, "Пиво", "Базированное пиво", Boolean.TRUE, userPostedOwner1));
+        Item itemPosted2 = itemRepository.save(new Item(2, "Ром", "Базированный ром", Boolean.FALSE, userPostedOwner1));
+        itemRepository.save(new Item(3, "Дрель", "Базированная дрель", Boolean.TRUE, userPostedOwner2));
+
+        Assertions.assertEquals(Set.of(itemPosted1.getId(), itemPosted2.getId()),
+                Set.copyOf(itemRepository.findAllIdsByOwnerId(userPostedOwner1.getId())));
+    }
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.storage.BookingRepository;
+import ru.practicum.shareit.user.exception.UserNotFoundException;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectUnitTest {
+
+    @Mock
+    ProceedingJoinPoint joinPoint;
+    @Mock
+    Signature signature;
+
+    SimpleMeterRegistry meterRegistry;
+    RepositoryCallCounter repositoryCallCounter;
+    ServiceMetricsAspect serviceMetricsAspect;
+
+    @BeforeEach
+    void generator() {
+        meterRegistry = new SimpleMeterRegistry();
+        repositoryCallCounter = new RepositoryCallCounter();
+        serviceMetricsAspect = new ServiceMetricsAspect(meterRegistry, repositoryCallCounter);
+    }
+
+    @Test
+    void timeService() throws Throwable {
+
+        Mockito.when(joinPoint.getSignature()).thenReturn(signature);
+        Mockito.when(signature.getDeclaringType()).thenReturn(UserServiceImpl.class);
+        Mockito.when(signature.getName()).thenReturn("getAllUsers");
+        Mockito.when(joinPoint.proceed()).thenReturn(List.of(1, 2, 3));
+
+        Assertions.assertEquals(List.of(1, 2, 3), serviceMetricsAspect.timeService(joinPoint));
+
+        Assertions.assertEquals(1, meterRegistry.get(ServiceMetricsAspect.SERVICE_CALLS)
+                .tag("service", "UserServiceImpl")
+                .tag("method", "getAllUsers")
+                .tag("exception", "none")
+                .timer()
+                .count());
+        Assertions.assertEquals(3, meterRegistry.get(ServiceMetricsAspect.SERVICE_RESULT_SIZE)
+                .tag("method", "getAllUsers")
+                .summary()
+                .totalAmount());
+    }
+
+    @Test
+    void timeServiceTagsException() throws Throwable {
+
+        Mockito.when(joinPoint.getSignature()).thenReturn(signature);
+        Mockito.when(signature.getDeclaringType()).thenReturn(UserServiceImpl.class);
+        Mockito.when(signature.getName()).thenReturn("getUserById");
+        Mockito.when(joinPoint.proceed()).thenThrow(new UserNotFoundException("User not found"));
+
+        Assertions.assertThrows(UserNotFoundException.class, () -> serviceMetricsAspect.timeService(joinPoint));
+
+        Assertions.assertEquals(1, meterRegistry.get(ServiceMetricsAspect.SERVICE_CALLS)
+                .tag("method", "getUserById")
+                .tag("exception", "UserNotFoundException")
+                .timer()
+                .count());
+        Assertions.assertNull(meterRegistry.find(ServiceMetricsAspect.SERVICE_RESULT_SIZE).summary());
+    }
+
+    @Test
+    void timeRepository() throws Throwable {
+
+        Mockito.when(joinPoint.getSignature()).thenReturn(signature);
+        Mockito.when(joinPoint.getThis()).thenReturn(Mockito.mock(BookingRepository.class));
+        Mockito.when(signature.getName()).thenReturn("findAllByBookerIdOrderByStartDesc");
+        Mockito.when(joinPoint.proceed()).thenReturn(null);
+
+        repositoryCallCounter.start();
+        serviceMetricsAspect.timeRepository(joinPoint);
+        serviceMetricsAspect.timeRepository(joinPoint);
+
+        Assertions.assertEquals(2, repositoryCallCounter.finish());
+        Assertions.assertEquals(2, meterRegistry.get(ServiceMetricsAspect.REPOSITORY_CALLS)
+                .tag("repository", "BookingRepository")
+                .tag("method", "findAllByBookerIdOrderByStartDesc")
+                .timer()
+                .count());
+    }
+}
@@ -7,9 +7,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.item.dto.ItemForRequestDto;
+import ru.practicum.shareit.item.model.ItemForRequest;
 import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.exception.ItemRequestNotFoundException;
@@ -72,7 +74,7 @@ class ItemRequestServiceImplUnitTest {
         Mockito.when(itemRequestRepository.findAllByUserIdOrderByCreatedAsc(Mockito.anyInt()))
                 .thenReturn(List.of(new ItemRequest(1, "Хончу пива", DATE, new User(1, "Viktor B", "vitekb650@gmail.com")), new ItemRequest(2, "Хончу рома", DATE, new User(1, "Viktor B", "vitekb650@gmail.com"))));
 
-        Mockito.when(itemRepository.findAllItemsForRequestByRequestId(Mockito.anyInt()))
+        Mockito.when(itemRepository.findAllItemsForRequestByRequestIdIn(Mockito.anyCollection()))
                 .thenReturn(new ArrayList<>());
 
         List<ItemRequestDto> itemRequestDtoListAfterWork = itemRequestService.getItemRequests(1);
@@ -84,22 +86,22 @@ class ItemRequestServiceImplUnitTest {
     void getAllItemRequests() {
 
         ItemRequestDto itemRequestDtoBeforeWork1 = new ItemRequestDto(1, "Хончу пива", DATE, new ArrayList<>());
-        ItemRequestDto itemRequestDtoBeforeWork2 = new ItemRequestDto(2, "Хончу рома", DATE, new ArrayList<>());
+        ItemRequestDto itemRequestDtoBeforeWork2 = new ItemRequestDto(2, "Хончу рома", DATE, List.of(ItemForRequestDto.builder().id(1).name("Дрель").description("Базированная дрель").available(true).requestId(2).build()));
 
         List<ItemRequestDto> itemRequestDtoListBeforeWork = List.of(itemRequestDtoBeforeWork1, itemRequestDtoBeforeWork2);
 
         List<ItemRequest> itemRequests = List.of(new ItemRequest(1, "Хончу пива", DATE, new User(1, "Viktor B", "vitekb650@gmail.com")), new ItemRequest(2, "Хончу рома", DATE, new User(1, "Viktor B", "vitekb650@gmail.com")));
 
-        Page<ItemRequest> itemRequestPage = new PageImpl<>(itemRequests);
+        Slice<ItemRequest> itemRequestSlice = new SliceImpl<>(itemRequests);
 
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
         Mockito.when(itemRequestRepository.findAllByUserIdNotOrderByCreatedAsc(Mockito.anyInt(), Mockito.any(PageRequest.class)))
-                .thenReturn(itemRequestPage);
+                .thenReturn(itemRequestSlice);
 
-        Mockito.when(itemRepository.findAllItemsForRequestByRequestId(Mockito.anyInt()))
-                .thenReturn(new ArrayList<>());
+        Mockito.when(itemRepository.findAllItemsForRequestByRequestIdIn(Mockito.anyCollection()))
+                .thenReturn(List.of(new ItemForRequest(1, "Дрель", "Базированная дрель", true, 2)));
 
         List<ItemRequestDto> itemRequestDtoListAfterWork = itemRequestService.getAllItemRequests(1, 0, 5);
 
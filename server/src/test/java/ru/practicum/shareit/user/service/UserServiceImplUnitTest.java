@@ -7,6 +7,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.schedule.BookingIntervalIndex;
+import ru.practicum.shareit.cache.OwnerCache;
+import ru.practicum.shareit.cache.OwnerCacheProperties;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.exception.UserNotFoundException;
 import ru.practicum.shareit.user.model.User;
@@ -21,12 +26,19 @@ class UserServiceImplUnitTest {
 
     @Mock
     UserRepository userRepository;
+    @Mock
+    ItemRepository itemRepository;
+    @Mock
+    ItemSearchEngine itemSearchEngine;
+    @Mock
+    BookingIntervalIndex bookingIntervalIndex;
+    OwnerCache ownerCache = new OwnerCache(new OwnerCacheProperties());
 
     UserService userService;
 
     @BeforeEach
     void generator() {
-        userService = new UserServiceImpl(userRepository);
+        userService = new UserServiceImpl(userRepository, itemRepository, itemSearchEngine, bookingIntervalIndex, ownerCache);
     }
 
     @Test
@@ -83,10 +95,19 @@ class UserServiceImplUnitTest {
         Mockito.when(userRepository.findUserById(Mockito.anyInt()))
                 .thenReturn(Optional.of(new User(1, "Viktor B", "vitekb650@gmail.com")));
 
+        Mockito.when(itemRepository.findAllIdsByOwnerId(1))
+                .thenReturn(List.of(3, 4));
+
         userService.deleteUserById(1);
 
         Mockito.verify(userRepository, Mockito.times(1))
                 .deleteById(1);
+        Mockito.verify(bookingIntervalIndex, Mockito.times(1))
+                .evictUser(1);
+        Mockito.verify(itemSearchEngine, Mockito.times(1))
+                .removeItem(3);
+        Mockito.verify(itemSearchEngine, Mockito.times(1))
+                .removeItem(4);
     }
 
     @Test